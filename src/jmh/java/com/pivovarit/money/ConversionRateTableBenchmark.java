@@ -0,0 +1,106 @@
+package com.pivovarit.money;
+
+import com.pivovarit.money.currency.TypedCurrency;
+import com.pivovarit.money.math.BigRational;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * {@link ConversionRateTable} lookups over all pairs of the built-in currencies against the usual
+ * {@code ConcurrentHashMap} keyed by concatenated currency codes, reads racing a rate feed, and memoized cross rates
+ * resolved through {@code USD} from direct {@code USD} quotes only.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConversionRateTableBenchmark {
+
+    private static final List<TypedCurrency> CURRENCIES = List.copyOf(TypedCurrency.supportedCurrencies());
+    // ordered pairs of the ten built-in currencies
+    private static final int PAIRS = 10 * 10;
+
+    private final ConversionRateTable table = ConversionRateTable.empty();
+    private final Map<String, ConversionRate<?, ?>> map = new ConcurrentHashMap<>();
+    private CrossRateResolver resolver = CrossRateResolver.of(List.of());
+    private long tick;
+
+    @Setup
+    public void setup() {
+        for (TypedCurrency from : CURRENCIES) {
+            for (TypedCurrency to : CURRENCIES) {
+                var rate = ConversionRate.from(BigRational.of(from.hashCode() & 0xFFFF, 1 + (to.hashCode() & 0xFFFF)), from, to);
+                table.put(rate);
+                map.put(from.currency().getCurrencyCode() + to.currency().getCurrencyCode(), rate);
+            }
+        }
+        resolver = CrossRateResolver.of(CURRENCIES.stream()
+          .filter(currency -> currency != TypedCurrency.USD)
+          .map(currency -> table.get(currency, TypedCurrency.USD))
+          .toList(), TypedCurrency.USD);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PAIRS)
+    public void table(Blackhole bh) {
+        var snapshot = table.snapshot();
+        for (TypedCurrency from : CURRENCIES) {
+            for (TypedCurrency to : CURRENCIES) {
+                bh.consume(snapshot.get(from, to));
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PAIRS)
+    public void concurrentHashMap(Blackhole bh) {
+        for (TypedCurrency from : CURRENCIES) {
+            for (TypedCurrency to : CURRENCIES) {
+                bh.consume(map.get(from.currency().getCurrencyCode() + to.currency().getCurrencyCode()));
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PAIRS)
+    public void crossRates(Blackhole bh) {
+        for (TypedCurrency from : CURRENCIES) {
+            for (TypedCurrency to : CURRENCIES) {
+                bh.consume(resolver.get(from, to));
+            }
+        }
+    }
+
+    @Benchmark
+    @Group("feed")
+    @GroupThreads(3)
+    @OperationsPerInvocation(PAIRS)
+    public void feed_read(Blackhole bh) {
+        table(bh);
+    }
+
+    @Benchmark
+    @Group("feed")
+    @GroupThreads(1)
+    public ConversionRateTable.Snapshot feed_write() {
+        return table.put(ConversionRate.from(BigRational.of(++tick), TypedCurrency.USD, TypedCurrency.EUR));
+    }
+}
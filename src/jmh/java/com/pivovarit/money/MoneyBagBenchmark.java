@@ -0,0 +1,70 @@
+package com.pivovarit.money;
+
+import com.pivovarit.money.currency.TypedCurrency;
+import com.pivovarit.money.math.RationalAccumulator;
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Position keeping over a mix of currencies: {@link MoneyBag} against the usual {@code HashMap} from currency code to a
+ * running sum.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoneyBagBenchmark {
+
+    private static final int SIZE = 4096;
+
+    private final Money<?>[] amounts = new Money<?>[SIZE];
+
+    @Setup
+    public void setup() {
+        var random = new Random(42);
+        List<TypedCurrency> currencies = List.of(
+          TypedCurrency.EUR, TypedCurrency.USD, TypedCurrency.GBP, TypedCurrency.CHF,
+          TypedCurrency.from("JPY"), TypedCurrency.from("SEK"), TypedCurrency.from("SGD"), TypedCurrency.from("ZAR"));
+        for (int i = 0; i < SIZE; i++) {
+            amounts[i] = Money.from(BigDecimal.valueOf(random.nextLong(-1_000_000, 1_000_000), 2), currencies.get(random.nextInt(currencies.size())));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public MoneyBag moneyBag() {
+        var bag = MoneyBag.empty();
+        for (Money<?> amount : amounts) {
+            bag.add(amount);
+        }
+        return bag;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public Map<String, RationalAccumulator> hashMap() {
+        Map<String, RationalAccumulator> positions = new HashMap<>();
+        for (Money<?> amount : amounts) {
+            positions.computeIfAbsent(amount.currency().currency().getCurrencyCode(), code -> new RationalAccumulator())
+              .add(amount.amount());
+        }
+        return positions;
+    }
+}
@@ -0,0 +1,164 @@
+package com.pivovarit.money;
+
+import com.pivovarit.money.currency.EUR;
+import com.pivovarit.money.currency.TypedCurrency;
+import com.pivovarit.money.math.BigRational;
+import com.pivovarit.money.math.Rounding;
+import java.math.BigDecimal;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * {@link Money} and {@link ConversionRate} hot paths on cent amounts, as read and after a conversion by a rate with a
+ * non-decimal inverse.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoneyBenchmark {
+
+    private static final int SIZE = 4096;
+
+    private static final ConversionRate<EUR, EUR> NOOP = ConversionRate.from(BigRational.ONE, TypedCurrency.EUR, TypedCurrency.EUR);
+
+    private final Money<EUR>[] amounts = newArray();
+    private final Money<EUR>[] convertedAmounts = newArray();
+    private final ConversionRate<EUR, EUR>[] rates = newRates();
+    private final FastMoney<EUR>[] fastAmounts = newFastArray();
+    private final long[] minorUnits = new long[SIZE];
+    private ConversionRate<EUR, EUR> portfolioRate = NOOP;
+
+    @Setup
+    public void setup() {
+        var random = new Random(42);
+        for (int i = 0; i < SIZE; i++) {
+            amounts[i] = Money.from(BigDecimal.valueOf(random.nextLong(1, 100_000_000), 2), TypedCurrency.EUR);
+            rates[i] = ConversionRate.from(BigDecimal.valueOf(random.nextLong(1, 10_000_000), 6), TypedCurrency.EUR, TypedCurrency.EUR);
+            convertedAmounts[i] = rates[i].invert().exchange(amounts[i]);
+            fastAmounts[i] = FastMoney.from(amounts[i]);
+            minorUnits[i] = fastAmounts[i].minorUnits();
+        }
+        portfolioRate = rates[0].invert();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public Money<EUR> add() {
+        Money<EUR> sum = amounts[0];
+        for (int i = 1; i < SIZE; i++) {
+            sum = sum.add(amounts[i]);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public FastMoney<EUR> add_fast() {
+        FastMoney<EUR> sum = fastAmounts[0];
+        for (int i = 1; i < SIZE; i++) {
+            sum = sum.add(fastAmounts[i]);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void toDecimal(Blackhole bh) {
+        for (Money<EUR> amount : amounts) {
+            bh.consume(amount.toDecimal());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void toDecimal_converted(Blackhole bh) {
+        for (Money<EUR> amount : convertedAmounts) {
+            bh.consume(amount.toDecimal());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void toString(Blackhole bh) {
+        for (Money<EUR> amount : amounts) {
+            bh.consume(amount.toString());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void exchange(Blackhole bh) {
+        for (int i = 0; i < SIZE; i++) {
+            bh.consume(rates[i].exchange(amounts[i]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void exchange_portfolio(Blackhole bh) {
+        for (int i = 0; i < SIZE; i++) {
+            bh.consume(portfolioRate.exchange(amounts[i]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public Money<EUR>[] exchangeAll_portfolio() {
+        return portfolioRate.exchangeAll(amounts);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public long[] exchangeAll_minorUnits() {
+        return portfolioRate.exchangeAll(minorUnits, Rounding.HALF_EVEN);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void invert(Blackhole bh) {
+        for (ConversionRate<EUR, EUR> rate : rates) {
+            bh.consume(rate.invert());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public ConversionRate<EUR, EUR> compose() {
+        ConversionRate<EUR, EUR> composed = NOOP;
+        for (ConversionRate<EUR, EUR> rate : rates) {
+            composed = ConversionRate.compose(composed, rate.invert());
+            composed = ConversionRate.compose(composed, rate);
+        }
+        return composed;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Money<EUR>[] newArray() {
+        return (Money<EUR>[]) new Money<?>[SIZE];
+    }
+
+    @SuppressWarnings("unchecked")
+    private static FastMoney<EUR>[] newFastArray() {
+        return (FastMoney<EUR>[]) new FastMoney<?>[SIZE];
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ConversionRate<EUR, EUR>[] newRates() {
+        return (ConversionRate<EUR, EUR>[]) new ConversionRate<?, ?>[SIZE];
+    }
+}
@@ -0,0 +1,152 @@
+package com.pivovarit.money;
+
+import com.pivovarit.money.currency.EUR;
+import com.pivovarit.money.currency.TypedCurrency;
+import com.pivovarit.money.math.BigRational;
+import com.pivovarit.money.math.Decimal;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Bulk import ({@code Money.from(BigDecimal, ...)}) and export ({@code Money.toDecimal()}) of amounts, as read and as
+ * after a currency conversion, versus the {@code BigInteger.TEN.pow(scale)} and {@code BigDecimal.divide} conversions
+ * they used to go through, and formatting through {@link MoneyFormatter} versus {@code toDecimal()} and string
+ * concatenation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoneyExportBenchmark {
+
+    private static final int SIZE = 4096;
+
+    private static final BigRational RATE = BigRational.of("4.31872").divide(BigRational.of(3));
+
+    @Param({"2", "8", "24"})
+    public int scale;
+
+    private final BigDecimal[] decimals = new BigDecimal[SIZE];
+    private final Money<EUR>[] amounts = newArray();
+    private final Money<EUR>[] convertedAmounts = newArray();
+    private final StringBuilder text = new StringBuilder(64);
+    private final ByteBuffer bytes = ByteBuffer.allocate(64);
+
+    @Setup
+    public void setup() {
+        var random = new Random(42);
+        for (int i = 0; i < SIZE; i++) {
+            decimals[i] = new BigDecimal(BigInteger.valueOf(random.nextLong(1, Long.MAX_VALUE)), scale);
+            amounts[i] = Money.from(decimals[i], TypedCurrency.EUR);
+            convertedAmounts[i] = amounts[i].multiply(RATE);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void fromBigDecimal(Blackhole bh) {
+        for (BigDecimal decimal : decimals) {
+            bh.consume(Money.from(decimal, TypedCurrency.EUR));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void fromBigDecimal_baseline(Blackhole bh) {
+        for (BigDecimal decimal : decimals) {
+            BigRational amount = new BigRational(decimal.unscaledValue(), BigInteger.TEN.pow(decimal.scale()));
+            bh.consume(Money.from(amount, TypedCurrency.EUR));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void toDecimal(Blackhole bh) {
+        for (Money<EUR> amount : amounts) {
+            bh.consume(amount.toDecimal());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void toDecimal_baseline(Blackhole bh) {
+        for (Money<EUR> amount : amounts) {
+            bh.consume(toDecimalBaseline(amount));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void toDecimal_converted(Blackhole bh) {
+        for (Money<EUR> amount : convertedAmounts) {
+            bh.consume(amount.toDecimal());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void toDecimal_converted_baseline(Blackhole bh) {
+        for (Money<EUR> amount : convertedAmounts) {
+            bh.consume(toDecimalBaseline(amount));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void formatTo_converted(Blackhole bh) {
+        for (Money<EUR> amount : convertedAmounts) {
+            text.setLength(0);
+            bh.consume(amount.formatTo(text));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void formatTo_converted_byteBuffer(Blackhole bh) {
+        for (Money<EUR> amount : convertedAmounts) {
+            bh.consume(amount.formatTo(bytes.clear()));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void formatTo_converted_baseline(Blackhole bh) {
+        for (Money<EUR> amount : convertedAmounts) {
+            text.setLength(0);
+            bh.consume(text.append(amount.toDecimal().value() + " " + amount.currency().currency().getCurrencyCode()));
+        }
+    }
+
+    // BigDecimal.divide, then the rounded value back to a rational and subtracted for the residual
+    private static Decimal toDecimalBaseline(Money<EUR> amount) {
+        BigDecimal n = new BigDecimal(amount.amount().numerator());
+        BigDecimal d = new BigDecimal(amount.amount().denominator());
+        BigDecimal value = n.divide(d, amount.fractionDigits(), RoundingMode.HALF_UP);
+        BigRational exact = new BigRational(value.unscaledValue(), BigInteger.TEN.pow(value.scale()));
+        return new Decimal(value, amount.amount().subtract(exact));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Money<EUR>[] newArray() {
+        return (Money<EUR>[]) new Money<?>[SIZE];
+    }
+}
@@ -0,0 +1,92 @@
+package com.pivovarit.money;
+
+import com.pivovarit.money.currency.EUR;
+import com.pivovarit.money.currency.TypedCurrency;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link MoneyVector} kernels against the same cent amounts as a {@code List<Money>}, with the Vector API kernels
+ * ({@code preferred}, when {@code jdk.incubator.vector} is resolved) and the scalar fallback.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoneyVectorBenchmark {
+
+    private static final int SIZE = 65_536;
+
+    @Param({"preferred", "scalar"})
+    public String kernels;
+
+    private final List<Money<EUR>> list = new ArrayList<>(SIZE);
+    private final Money<EUR> threshold = Money.from("500000.00", TypedCurrency.EUR);
+    private MoneyVector<EUR> vector;
+
+    @Setup
+    public void setup() {
+        var random = new Random(42);
+        vector = MoneyVector.of(TypedCurrency.EUR, kernels.equals("scalar") ? ScalarLongKernels.INSTANCE : LongKernels.INSTANCE);
+        for (int i = 0; i < SIZE; i++) {
+            var amount = Money.from(BigDecimal.valueOf(random.nextLong(1, 100_000_000), 2), TypedCurrency.EUR);
+            list.add(amount);
+            vector.append(amount);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public Money<EUR> sum_list() {
+        return list.stream().collect(Money.summing(TypedCurrency.EUR));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public Money<EUR> sum() {
+        return vector.sum();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public MoneyVector<EUR> multiply() {
+        return vector.multiply(3);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public BitSet greaterThan() {
+        return vector.greaterThan(threshold);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public Optional<Money<EUR>> max_list() {
+        return list.stream().max(Money::compareTo);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public Optional<Money<EUR>> max() {
+        return vector.max();
+    }
+}
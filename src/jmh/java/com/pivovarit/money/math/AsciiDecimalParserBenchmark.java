@@ -0,0 +1,92 @@
+package com.pivovarit.money.math;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * A column of prices in a semicolon-separated byte buffer, parsed in place versus decoded into {@code String}s first.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AsciiDecimalParserBenchmark {
+
+    private static final int SIZE = 4096;
+
+    private byte[] column;
+    private ByteBuffer direct;
+    private final int[] offsets = new int[SIZE];
+    private final int[] lengths = new int[SIZE];
+    private final long[] minorUnits = new long[SIZE];
+    private final BigRational[] rationals = new BigRational[SIZE];
+
+    @Setup
+    public void setup() {
+        var random = new Random(42);
+        var sb = new StringBuilder();
+        for (int i = 0; i < SIZE; i++) {
+            var price = BigDecimal.valueOf(random.nextLong(0, 100_000_000), 2).toPlainString();
+            offsets[i] = sb.length();
+            lengths[i] = price.length();
+            sb.append(price).append(';');
+        }
+        column = sb.toString().getBytes(StandardCharsets.US_ASCII);
+        direct = ByteBuffer.allocateDirect(column.length).put(column);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public long[] parseScaled() {
+        AsciiDecimalParser.parseScaled(column, offsets, lengths, 2, minorUnits);
+        return minorUnits;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public long[] parseScaled_direct() {
+        AsciiDecimalParser.parseScaled(direct, offsets, lengths, 2, minorUnits);
+        return minorUnits;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public BigRational[] parse() {
+        AsciiDecimalParser.parse(column, offsets, lengths, rationals);
+        return rationals;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void parse_viaString(Blackhole bh) {
+        for (int i = 0; i < SIZE; i++) {
+            bh.consume(BigRational.of(new String(column, offsets[i], lengths[i], StandardCharsets.US_ASCII)));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void parseScaled_viaBigDecimal(Blackhole bh) {
+        for (int i = 0; i < SIZE; i++) {
+            var s = new String(column, offsets[i], lengths[i], StandardCharsets.US_ASCII);
+            bh.consume(new BigDecimal(s).movePointRight(2).longValueExact());
+        }
+    }
+}
@@ -0,0 +1,243 @@
+package com.pivovarit.money.math;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Cent-scale and wide (BigInteger-backed) decimal arithmetic, comparison and sorting: {@code BigRational} versus the
+ * plain {@code BigInteger} cross-multiply-and-gcd baseline it used to be implemented with.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BigRationalBenchmark {
+
+    private static final int SIZE = 4096;
+
+    private static final BigRational MARKUP = BigRational.of("1.0725");
+    private static final BigRational FEE = BigRational.of("0.35");
+    private static final BigRational FX = BigRational.of("4.31872");
+    private static final BigRational DISCOUNT = BigRational.of("1/3");
+    private static final BigRational DAILY_INTEREST = BigRational.ONE.add(BigRational.of("0.0425").divide(365));
+
+    private final BigRational[] amounts = new BigRational[SIZE];
+    private final BigInteger[][] baseline = new BigInteger[SIZE][];
+    private final BigRational[] wideAmounts = new BigRational[SIZE];
+    private final BigInteger[][] wideBaseline = new BigInteger[SIZE][];
+    private final BigRational[] convertedAmounts = new BigRational[SIZE];
+    private final BigInteger[][] convertedBaseline = new BigInteger[SIZE][];
+
+    @Setup
+    public void setup() {
+        var random = new Random(42);
+        for (int i = 0; i < SIZE; i++) {
+            long cents = random.nextLong(-10_000_000, 10_000_000);
+            amounts[i] = BigRational.of(cents, 100);
+            baseline[i] = new BigInteger[]{amounts[i].numerator(), amounts[i].denominator()};
+
+            wideAmounts[i] = BigRational.of(new BigDecimal(new BigInteger(96, random), random.nextInt(2, 6)));
+            wideBaseline[i] = new BigInteger[]{wideAmounts[i].numerator(), wideAmounts[i].denominator()};
+
+            convertedAmounts[i] = wideAmounts[i].multiply(FX).multiply(DISCOUNT);
+            convertedBaseline[i] = new BigInteger[]{convertedAmounts[i].numerator(), convertedAmounts[i].denominator()};
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public BigRational add() {
+        BigRational acc = BigRational.ZERO;
+        for (BigRational amount : amounts) {
+            acc = acc.add(amount);
+        }
+        return acc;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public BigRational add_accumulator() {
+        var acc = new RationalAccumulator();
+        for (BigRational amount : amounts) {
+            acc.add(amount);
+        }
+        return acc.result();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public BigInteger[] add_baseline() {
+        BigInteger[] acc = {BigInteger.ZERO, BigInteger.ONE};
+        for (BigInteger[] amount : baseline) {
+            acc = reduce(acc[0].multiply(amount[1]).add(amount[0].multiply(acc[1])), acc[1].multiply(amount[1]));
+        }
+        return acc;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public BigRational add_wide() {
+        BigRational acc = BigRational.ZERO;
+        for (BigRational amount : wideAmounts) {
+            acc = acc.add(amount);
+        }
+        return acc;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public BigRational add_wide_accumulator() {
+        var acc = new RationalAccumulator();
+        for (BigRational amount : wideAmounts) {
+            acc.add(amount);
+        }
+        return acc.result();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public BigInteger[] add_wide_baseline() {
+        BigInteger[] acc = {BigInteger.ZERO, BigInteger.ONE};
+        for (BigInteger[] amount : wideBaseline) {
+            acc = reduce(acc[0].multiply(amount[1]).add(amount[0].multiply(acc[1])), acc[1].multiply(amount[1]));
+        }
+        return acc;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void multiply(Blackhole bh) {
+        for (int i = 1; i < SIZE; i++) {
+            bh.consume(amounts[i].multiply(amounts[i - 1]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void multiply_baseline(Blackhole bh) {
+        for (int i = 1; i < SIZE; i++) {
+            bh.consume(reduce(baseline[i][0].multiply(baseline[i - 1][0]), baseline[i][1].multiply(baseline[i - 1][1])));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void multiply_wide(Blackhole bh) {
+        for (int i = 1; i < SIZE; i++) {
+            bh.consume(wideAmounts[i].multiply(wideAmounts[i - 1]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void multiply_wide_baseline(Blackhole bh) {
+        for (int i = 1; i < SIZE; i++) {
+            bh.consume(reduce(wideBaseline[i][0].multiply(wideBaseline[i - 1][0]), wideBaseline[i][1].multiply(wideBaseline[i - 1][1])));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void compareTo(Blackhole bh) {
+        for (int i = 1; i < SIZE; i++) {
+            bh.consume(amounts[i].compareTo(amounts[i - 1]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void compareTo_baseline(Blackhole bh) {
+        for (int i = 1; i < SIZE; i++) {
+            bh.consume(baseline[i][0].multiply(baseline[i - 1][1]).compareTo(baseline[i - 1][0].multiply(baseline[i][1])));
+        }
+    }
+
+    @Benchmark
+    public BigRational[] sort() {
+        BigRational[] sorted = amounts.clone();
+        Arrays.sort(sorted);
+        return sorted;
+    }
+
+    @Benchmark
+    public BigInteger[][] sort_baseline() {
+        BigInteger[][] sorted = baseline.clone();
+        Arrays.sort(sorted, BigRationalBenchmark::compareBaseline);
+        return sorted;
+    }
+
+    @Benchmark
+    public BigRational[] sort_converted() {
+        BigRational[] sorted = convertedAmounts.clone();
+        Arrays.sort(sorted);
+        return sorted;
+    }
+
+    @Benchmark
+    public BigInteger[][] sort_converted_baseline() {
+        BigInteger[][] sorted = convertedBaseline.clone();
+        Arrays.sort(sorted, BigRationalBenchmark::compareBaseline);
+        return sorted;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void pricingChain(Blackhole bh) {
+        for (BigRational amount : amounts) {
+            bh.consume(amount.multiply(MARKUP).add(FEE).multiply(FX).multiply(DISCOUNT).subtract(FEE));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void pricingChain_deferred(Blackhole bh) {
+        for (BigRational amount : amounts) {
+            bh.consume(amount.deferReduction().multiply(MARKUP).add(FEE).multiply(FX).multiply(DISCOUNT).subtract(FEE).reduce());
+        }
+    }
+
+    // a year of daily compounding: exact denominators grow by 365 * 10^4 a day unless bounded
+    @Benchmark
+    public BigRational compounding() {
+        BigRational amount = amounts[0];
+        for (int day = 0; day < 365; day++) {
+            amount = amount.multiply(DAILY_INTEREST);
+        }
+        return amount;
+    }
+
+    @Benchmark
+    public BigRational compounding_limited() {
+        BigRational amount = amounts[0];
+        for (int day = 0; day < 365; day++) {
+            amount = amount.multiply(DAILY_INTEREST).limitDenominator(1_000_000_000_000L);
+        }
+        return amount;
+    }
+
+    private static int compareBaseline(BigInteger[] x, BigInteger[] y) {
+        return x[0].multiply(y[1]).compareTo(y[0].multiply(x[1]));
+    }
+
+    private static BigInteger[] reduce(BigInteger numerator, BigInteger denominator) {
+        BigInteger g = numerator.gcd(denominator);
+        return new BigInteger[]{numerator.divide(g), denominator.divide(g)};
+    }
+}
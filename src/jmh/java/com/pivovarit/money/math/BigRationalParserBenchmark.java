@@ -0,0 +1,122 @@
+package com.pivovarit.money.math;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Price and rate strings through the single-pass scanner versus the trim / indexOf / substring / regex / BigDecimal
+ * parser it replaced (reproduced in {@link #legacy(String)}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BigRationalParserBenchmark {
+
+    private static final int SIZE = 4096;
+
+    private static final Pattern PLAIN_NUMBER = Pattern.compile("[+-]?\\d+(?:\\.\\d+)?");
+
+    private final String[] prices = new String[SIZE];
+    private final String[] rates = new String[SIZE];
+    private final String[] fractions = new String[SIZE];
+
+    @Setup
+    public void setup() {
+        var random = new Random(42);
+        for (int i = 0; i < SIZE; i++) {
+            prices[i] = BigDecimal.valueOf(random.nextLong(0, 100_000_000), 2).toPlainString();
+            rates[i] = BigDecimal.valueOf(random.nextLong(1, 10_000_000), 6).toPlainString();
+            fractions[i] = random.nextInt(1, 1000) + "/" + random.nextInt(1, 1000);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void prices(Blackhole bh) {
+        for (String price : prices) {
+            bh.consume(BigRational.of(price));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void prices_legacy(Blackhole bh) {
+        for (String price : prices) {
+            bh.consume(legacy(price));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void rates(Blackhole bh) {
+        for (String rate : rates) {
+            bh.consume(BigRational.of(rate));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void rates_legacy(Blackhole bh) {
+        for (String rate : rates) {
+            bh.consume(legacy(rate));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void fractions(Blackhole bh) {
+        for (String fraction : fractions) {
+            bh.consume(BigRational.of(fraction));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void fractions_legacy(Blackhole bh) {
+        for (String fraction : fractions) {
+            bh.consume(legacy(fraction));
+        }
+    }
+
+    private static BigRational legacy(String s) {
+        String input = s.trim();
+        if (input.isEmpty() || input.indexOf(',') >= 0 || input.indexOf('e') >= 0 || input.indexOf('E') >= 0) {
+            throw new IllegalArgumentException(s);
+        }
+        int slash = input.indexOf('/');
+        if (slash < 0) {
+            return legacyPlainNumber(input);
+        } else if (slash != input.lastIndexOf('/')) {
+            throw new IllegalArgumentException(s);
+        }
+        BigRational numerator = legacyPlainNumber(input.substring(0, slash).trim());
+        return numerator.divide(legacyPlainNumber(input.substring(slash + 1).trim()));
+    }
+
+    private static BigRational legacyPlainNumber(String part) {
+        if (!PLAIN_NUMBER.matcher(part).matches()) {
+            throw new IllegalArgumentException(part);
+        }
+        return part.indexOf('.') >= 0
+          ? BigRational.of(new BigDecimal(part))
+          : BigRational.of(new BigInteger(part), BigInteger.ONE);
+    }
+}
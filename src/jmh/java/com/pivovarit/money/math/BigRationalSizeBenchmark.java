@@ -0,0 +1,98 @@
+package com.pivovarit.money.math;
+
+import java.math.BigInteger;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Core {@link BigRational} operations on random non-decimal fractions whose numerator and denominator have
+ * {@code bits} bits each: 24 stays on the {@code long} fast paths, the rest on {@code BigInteger}s of growing size.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BigRationalSizeBenchmark {
+
+    private static final int SIZE = 1024;
+
+    @Param({"24", "96", "512", "2048"})
+    public int bits;
+
+    private final BigRational[] left = new BigRational[SIZE];
+    private final BigRational[] right = new BigRational[SIZE];
+    private final BigRational[] unreduced = new BigRational[SIZE];
+
+    @Setup
+    public void setup() {
+        var random = new Random(42);
+        for (int i = 0; i < SIZE; i++) {
+            left[i] = random(random);
+            right[i] = random(random);
+            // a shared factor for reduce() to find
+            var factor = BigRational.of(new BigInteger(bits, random).add(BigInteger.ONE), BigInteger.ONE);
+            unreduced[i] = left[i].deferReduction().multiply(factor).multiply(factor.inverse());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void add(Blackhole bh) {
+        for (int i = 0; i < SIZE; i++) {
+            bh.consume(left[i].add(right[i]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void multiply(Blackhole bh) {
+        for (int i = 0; i < SIZE; i++) {
+            bh.consume(left[i].multiply(right[i]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void divide(Blackhole bh) {
+        for (int i = 0; i < SIZE; i++) {
+            bh.consume(left[i].divide(right[i]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void compareTo(Blackhole bh) {
+        for (int i = 0; i < SIZE; i++) {
+            bh.consume(left[i].compareTo(right[i]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void reduce(Blackhole bh) {
+        for (BigRational value : unreduced) {
+            bh.consume(value.reduce());
+        }
+    }
+
+    private BigRational random(Random random) {
+        var numerator = new BigInteger(bits, random).setBit(bits - 1);
+        var denominator = new BigInteger(bits, random).setBit(bits - 1).setBit(0);
+        return BigRational.of(random.nextBoolean() ? numerator : numerator.negate(), denominator);
+    }
+}
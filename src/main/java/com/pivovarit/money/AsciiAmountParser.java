@@ -0,0 +1,53 @@
+package com.pivovarit.money;
+
+import com.pivovarit.money.currency.TypedCurrency;
+import com.pivovarit.money.math.AsciiDecimalParser;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * Parses ASCII amount fields from CSV or fixed-width byte data into minor units of a currency (cents for
+ * {@code EUR}, whole units for {@code JPY}) or into {@link Money}, without going through {@code String}s.
+ *
+ * @see AsciiDecimalParser
+ */
+public final class AsciiAmountParser {
+
+    private AsciiAmountParser() {
+    }
+
+    public static long parseMinorUnits(byte[] src, int offset, int length, TypedCurrency currency) {
+        return AsciiDecimalParser.parseScaled(src, offset, length, minorUnitDigits(currency));
+    }
+
+    public static long parseMinorUnits(ByteBuffer src, int offset, int length, TypedCurrency currency) {
+        return AsciiDecimalParser.parseScaled(src, offset, length, minorUnitDigits(currency));
+    }
+
+    public static void parseMinorUnits(byte[] src, int[] offsets, int[] lengths, TypedCurrency currency, long[] out) {
+        AsciiDecimalParser.parseScaled(src, offsets, lengths, minorUnitDigits(currency), out);
+    }
+
+    public static void parseMinorUnits(ByteBuffer src, int[] offsets, int[] lengths, TypedCurrency currency, long[] out) {
+        AsciiDecimalParser.parseScaled(src, offsets, lengths, minorUnitDigits(currency), out);
+    }
+
+    public static <T extends TypedCurrency> Money<T> parse(byte[] src, int offset, int length, T currency) {
+        Objects.requireNonNull(currency, "currency");
+        return Money.from(AsciiDecimalParser.parse(src, offset, length), currency);
+    }
+
+    public static <T extends TypedCurrency> Money<T> parse(ByteBuffer src, int offset, int length, T currency) {
+        Objects.requireNonNull(currency, "currency");
+        return Money.from(AsciiDecimalParser.parse(src, offset, length), currency);
+    }
+
+    private static int minorUnitDigits(TypedCurrency currency) {
+        Objects.requireNonNull(currency, "currency");
+        int digits = MonetaryContext.of(currency).fractionDigits();
+        if (digits < 0) {
+            throw new IllegalArgumentException("currency has no minor units: " + currency.currency().getCurrencyCode());
+        }
+        return digits;
+    }
+}
@@ -0,0 +1,51 @@
+package com.pivovarit.money;
+
+import com.pivovarit.money.currency.TypedCurrency;
+import com.pivovarit.money.math.Approximation;
+import com.pivovarit.money.math.DenominatorLimit;
+import java.util.Objects;
+
+/**
+ * {@link ConversionRate} carrying a {@link DenominatorLimit} that compositions and exchanges apply to their results,
+ * so long chains of compositions keep operand sizes bounded without passing the limit at each step. Composed rates
+ * carry the same limit; each result comes with the exact error of that step. See {@link BoundedMoney} for amounts.
+ */
+public record BoundedConversionRate<F extends TypedCurrency, T extends TypedCurrency>(ConversionRate<F, T> rate, DenominatorLimit limit) {
+    public BoundedConversionRate {
+        Objects.requireNonNull(rate, "rate");
+        Objects.requireNonNull(limit, "limit");
+    }
+
+    /**
+     * {@code rate} with its denominator bounded to {@code limit}, carrying the limit.
+     *
+     * @throws IllegalArgumentException if the approximation is not positive
+     */
+    public static <F extends TypedCurrency, T extends TypedCurrency> Approximation<BoundedConversionRate<F, T>> of(ConversionRate<F, T> rate, DenominatorLimit limit) {
+        Objects.requireNonNull(rate, "rate");
+        Objects.requireNonNull(limit, "limit");
+        return bound(rate, limit);
+    }
+
+    /**
+     * This rate followed by {@code next}, with the denominator of the composed rate bounded; the error is in units of
+     * the rate.
+     *
+     * @throws IllegalArgumentException if the approximation is not positive
+     */
+    public <C extends TypedCurrency> Approximation<BoundedConversionRate<F, C>> compose(ConversionRate<T, C> next) {
+        return bound(ConversionRate.compose(rate, next), limit);
+    }
+
+    /**
+     * Exchanges {@code money} with the denominator of the result bounded; the error is in units of {@code to}.
+     */
+    public Approximation<Money<T>> exchange(Money<F> money) {
+        return rate.exchange(money, limit);
+    }
+
+    private static <F extends TypedCurrency, T extends TypedCurrency> Approximation<BoundedConversionRate<F, T>> bound(ConversionRate<F, T> exact, DenominatorLimit limit) {
+        Approximation<ConversionRate<F, T>> limited = exact.limitDenominator(limit);
+        return new Approximation<>(new BoundedConversionRate<>(limited.value(), limit), limited.error());
+    }
+}
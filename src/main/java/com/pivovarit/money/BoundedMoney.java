@@ -0,0 +1,67 @@
+package com.pivovarit.money;
+
+import com.pivovarit.money.currency.TypedCurrency;
+import com.pivovarit.money.math.Approximation;
+import com.pivovarit.money.math.BigRational;
+import com.pivovarit.money.math.DenominatorLimit;
+import java.util.Objects;
+
+/**
+ * {@link Money} carrying a {@link DenominatorLimit} that every operation applies to its result, so long chains of
+ * multiplications by interest factors, divisions and exchanges keep operand sizes (and latency) bounded without
+ * passing the limit at each step. Each result carries the same limit, together with the exact error of that step in
+ * units of the result's currency.
+ */
+public record BoundedMoney<T extends TypedCurrency>(Money<T> money, DenominatorLimit limit) {
+    public BoundedMoney {
+        Objects.requireNonNull(money, "money");
+        Objects.requireNonNull(limit, "limit");
+    }
+
+    /**
+     * {@code money} with its denominator bounded to {@code limit}, carrying the limit.
+     */
+    public static <T extends TypedCurrency> Approximation<BoundedMoney<T>> of(Money<T> money, DenominatorLimit limit) {
+        Objects.requireNonNull(money, "money");
+        Objects.requireNonNull(limit, "limit");
+        return bound(money, limit);
+    }
+
+    public BigRational amount() {
+        return money.amount();
+    }
+
+    public T currency() {
+        return money.currency();
+    }
+
+    public Approximation<BoundedMoney<T>> add(Money<T> addend) {
+        return bound(money.add(addend), limit);
+    }
+
+    public Approximation<BoundedMoney<T>> subtract(Money<T> subtrahend) {
+        return bound(money.subtract(subtrahend), limit);
+    }
+
+    public Approximation<BoundedMoney<T>> multiply(BigRational factor) {
+        return bound(money.multiply(factor), limit);
+    }
+
+    /**
+     * @throws ArithmeticException if {@code divisor} is zero
+     */
+    public Approximation<BoundedMoney<T>> divide(BigRational divisor) {
+        Objects.requireNonNull(divisor, "divisor");
+        return bound(Money.from(money.amount().divide(divisor), money.currency()), limit);
+    }
+
+    public <R extends TypedCurrency> Approximation<BoundedMoney<R>> exchange(ConversionRate<T, R> rate) {
+        Objects.requireNonNull(rate, "rate");
+        return bound(rate.exchange(money), limit);
+    }
+
+    private static <T extends TypedCurrency> Approximation<BoundedMoney<T>> bound(Money<T> exact, DenominatorLimit limit) {
+        Approximation<Money<T>> limited = exact.limitDenominator(limit);
+        return new Approximation<>(new BoundedMoney<>(limited.value(), limit), limited.error());
+    }
+}
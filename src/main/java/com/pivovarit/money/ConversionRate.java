@@ -1,9 +1,16 @@
 package com.pivovarit.money;
 
 import com.pivovarit.money.currency.TypedCurrency;
+import com.pivovarit.money.math.Approximation;
 import com.pivovarit.money.math.BigRational;
+import com.pivovarit.money.math.DenominatorLimit;
+import com.pivovarit.money.math.RationalMultiplier;
+import com.pivovarit.money.math.Rounding;
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
+import java.util.stream.Stream;
 
 /**
  * Typed exchange rate: {@code ConversionRate<F, T>} exchanges {@code Money<F>} -> {@code Money<T>}.
@@ -32,18 +39,135 @@ public record ConversionRate<F extends TypedCurrency, T extends TypedCurrency>(F
 
     public Money<T> exchangeOrThrow(Money<?> money) {
         Objects.requireNonNull(money, "money");
-        if (money.currency() != from) {
+        if (!sameCurrency(money.currency(), from)) {
             throw new IllegalArgumentException("Money currency " + money.currency() + " does not match rate.from " + from);
         }
-        return new Money<>(money.amount().multiply(rate), to);
+        if (!MoneyEvents.Exchange.enabled()) {
+            return new Money<>(money.amount().multiply(rate), to);
+        }
+        var event = MoneyEvents.Exchange.start();
+        return event.commit(this, money, new Money<>(money.amount().multiply(rate), to));
     }
 
     public Money<T> exchange(Money<F> money) {
         Objects.requireNonNull(money, "money");
-        if (money.currency() != from) {
+        if (!sameCurrency(money.currency(), from)) {
+            throw new IllegalArgumentException("Money currency " + money.currency() + " does not match rate.from " + from);
+        }
+        if (!MoneyEvents.Exchange.enabled()) {
+            return new Money<>(money.amount().multiply(rate), to);
+        }
+        var event = MoneyEvents.Exchange.start();
+        return event.commit(this, money, new Money<>(money.amount().multiply(rate), to));
+    }
+
+    /**
+     * Exchanges every amount like {@link #exchange(Money)}, with the rate prepared once for the whole batch.
+     */
+    public List<Money<T>> exchangeAll(List<Money<F>> amounts) {
+        Objects.requireNonNull(amounts, "amounts");
+        var multiplier = RationalMultiplier.of(rate);
+        List<Money<T>> result = new ArrayList<>(amounts.size());
+        for (Money<F> money : amounts) {
+            result.add(exchange(money, multiplier));
+        }
+        return result;
+    }
+
+    /**
+     * Exchanges every amount like {@link #exchange(Money)}, with the rate prepared once for the whole batch.
+     */
+    public Money<T>[] exchangeAll(Money<F>[] amounts) {
+        Objects.requireNonNull(amounts, "amounts");
+        var multiplier = RationalMultiplier.of(rate);
+        @SuppressWarnings("unchecked")
+        Money<T>[] result = (Money<T>[]) new Money<?>[amounts.length];
+        for (int i = 0; i < amounts.length; i++) {
+            result[i] = exchange(amounts[i], multiplier);
+        }
+        return result;
+    }
+
+    /**
+     * Lazily exchanges every amount like {@link #exchange(Money)}, with the rate prepared once for the whole stream.
+     */
+    public Stream<Money<T>> exchangeAll(Stream<Money<F>> amounts) {
+        Objects.requireNonNull(amounts, "amounts");
+        var multiplier = RationalMultiplier.of(rate);
+        return amounts.map(money -> exchange(money, multiplier));
+    }
+
+    /**
+     * Exchanges amounts given in minor units of {@code from} into minor units of {@code to}, each rounded once with
+     * {@code rounding}: {@code result[i]} is the unscaled value of {@code exchange(money_i).toDecimal(rounding)}.
+     * <p>
+     * The rate is folded with both currencies' scales into a single fraction up front, so each element costs one
+     * multiplication and one division while the products fit a {@code long}.
+     *
+     * @throws ArithmeticException if a result does not fit a {@code long}
+     */
+    public long[] exchangeAll(long[] minorUnits, Rounding rounding) {
+        Objects.requireNonNull(minorUnits, "minorUnits");
+        Objects.requireNonNull(rounding, "rounding");
+        var multiplier = RationalMultiplier.of(minorUnitRate());
+        long[] result = new long[minorUnits.length];
+        for (int i = 0; i < minorUnits.length; i++) {
+            result[i] = multiplier.multiplyToLong(minorUnits[i], rounding);
+        }
+        return result;
+    }
+
+    /**
+     * Exchanges {@code money} and bounds the denominator of the result to {@code limit}; the error is in units of
+     * {@code to}.
+     */
+    public Approximation<Money<T>> exchange(Money<F> money, DenominatorLimit limit) {
+        return exchange(money).limitDenominator(limit);
+    }
+
+    /**
+     * This rate with its denominator bounded to {@code limit}; the error is in units of the rate.
+     *
+     * @throws IllegalArgumentException if the approximation is not positive
+     */
+    public Approximation<ConversionRate<F, T>> limitDenominator(DenominatorLimit limit) {
+        Objects.requireNonNull(limit, "limit");
+        Approximation<BigRational> limited = limit.apply(rate);
+        return new Approximation<>(limited.isExact() ? this : new ConversionRate<>(from, to, limited.value()), limited.error());
+    }
+
+    private Money<T> exchange(Money<F> money, RationalMultiplier multiplier) {
+        Objects.requireNonNull(money, "money");
+        if (!sameCurrency(money.currency(), from)) {
             throw new IllegalArgumentException("Money currency " + money.currency() + " does not match rate.from " + from);
         }
-        return new Money<>(money.amount().multiply(rate), to);
+        if (!MoneyEvents.Exchange.enabled()) {
+            return new Money<>(multiplier.multiply(money.amount()), to);
+        }
+        var event = MoneyEvents.Exchange.start();
+        return event.commit(this, money, new Money<>(multiplier.multiply(money.amount()), to));
+    }
+
+    // interned currencies compare by reference; other instances of the same currency by their (interned) Currency
+    private static boolean sameCurrency(TypedCurrency a, TypedCurrency b) {
+        return a == b || a.currency() == b.currency();
+    }
+
+    // the rate between one minor unit of from and one minor unit of to: rate * 10^(to digits - from digits)
+    private BigRational minorUnitRate() {
+        long fromScale = minorUnits(from).scaleFactor();
+        long toScale = minorUnits(to).scaleFactor();
+        return toScale >= fromScale
+          ? rate.multiply(BigRational.of(toScale / fromScale))
+          : rate.divide(BigRational.of(fromScale / toScale));
+    }
+
+    private static MonetaryContext minorUnits(TypedCurrency currency) {
+        var context = MonetaryContext.of(currency);
+        if (context.fractionDigits() < 0) {
+            throw new IllegalArgumentException("currency has no minor units: " + currency.currency().getCurrencyCode());
+        }
+        return context;
     }
 
     public ConversionRate<T, F> invert() {
@@ -55,4 +179,12 @@ public record ConversionRate<F extends TypedCurrency, T extends TypedCurrency>(F
         Objects.requireNonNull(bc, "bc");
         return new ConversionRate<>(ab.from, bc.to, ab.rate.multiply(bc.rate));
     }
+
+    /**
+     * {@link #compose(ConversionRate, ConversionRate)} with the denominator of the composed rate bounded to
+     * {@code limit}, so that long chains of compositions keep operand sizes bounded.
+     */
+    public static <A extends TypedCurrency, B extends TypedCurrency, C extends TypedCurrency> Approximation<ConversionRate<A, C>> compose(ConversionRate<A, B> ab, ConversionRate<B, C> bc, DenominatorLimit limit) {
+        return compose(ab, bc).limitDenominator(limit);
+    }
 }
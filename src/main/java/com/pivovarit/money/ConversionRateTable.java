@@ -0,0 +1,241 @@
+package com.pivovarit.money;
+
+import com.pivovarit.money.currency.CurrencyRegistry;
+import com.pivovarit.money.currency.TypedCurrency;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Live {@link ConversionRate}s, one per ordered currency pair, published as immutable, versioned {@link Snapshot}s.
+ * <p>
+ * Rates are stored in per-source rows indexed by {@link CurrencyRegistry} ids, so a lookup is two id lookups and two
+ * array reads, with no locks and no string hashing. Every update copies only the touched rows into a new snapshot and
+ * swaps it in with a compare-and-set. Readers never block, and a reader that needs one consistent view for a whole
+ * batch pins it with {@link #snapshot()}. Writers don't block each other either, but a rate feed should prefer
+ * {@link #putAll(Collection)} so that a burst of updates becomes one version.
+ */
+public final class ConversionRateTable {
+
+    private final AtomicReference<Snapshot> current = new AtomicReference<>(Snapshot.EMPTY);
+
+    private ConversionRateTable() {
+    }
+
+    public static ConversionRateTable empty() {
+        return new ConversionRateTable();
+    }
+
+    public static ConversionRateTable of(Collection<? extends ConversionRate<?, ?>> rates) {
+        var table = new ConversionRateTable();
+        table.putAll(rates);
+        return table;
+    }
+
+    /**
+     * The current snapshot; it never changes, whatever is published after it.
+     */
+    public Snapshot snapshot() {
+        return current.get();
+    }
+
+    public long version() {
+        return current.get().version;
+    }
+
+    public <F extends TypedCurrency, T extends TypedCurrency> Optional<ConversionRate<F, T>> find(F from, T to) {
+        return current.get().find(from, to);
+    }
+
+    /**
+     * @throws IllegalArgumentException if there is no rate from {@code from} to {@code to}
+     */
+    public <F extends TypedCurrency, T extends TypedCurrency> ConversionRate<F, T> get(F from, T to) {
+        return current.get().get(from, to);
+    }
+
+    /**
+     * Publishes {@code rate}, replacing any rate for the same pair.
+     *
+     * @return the published snapshot
+     */
+    public Snapshot put(ConversionRate<?, ?> rate) {
+        Objects.requireNonNull(rate, "rate");
+        return putAll(List.of(rate));
+    }
+
+    /**
+     * Publishes all {@code rates} as one new version; later rates for the same pair replace earlier ones. No rates
+     * publish nothing.
+     *
+     * @return the published snapshot, or the current one if {@code rates} is empty
+     */
+    public Snapshot putAll(Collection<? extends ConversionRate<?, ?>> rates) {
+        Objects.requireNonNull(rates, "rates");
+        List<ConversionRate<?, ?>> updates = List.copyOf(rates);
+        if (updates.isEmpty()) {
+            return current.get();
+        }
+        Snapshot prev;
+        Snapshot next;
+        do {
+            prev = current.get();
+            next = prev.with(updates);
+        } while (!current.compareAndSet(prev, next));
+        return next;
+    }
+
+    /**
+     * Removes the rate from {@code from} to {@code to}, if any.
+     *
+     * @return the published snapshot
+     */
+    public Snapshot remove(TypedCurrency from, TypedCurrency to) {
+        Objects.requireNonNull(from, "from");
+        Objects.requireNonNull(to, "to");
+        Snapshot prev;
+        Snapshot next;
+        do {
+            prev = current.get();
+            next = prev.without(CurrencyRegistry.id(from), CurrencyRegistry.id(to));
+        } while (next != prev && !current.compareAndSet(prev, next));
+        return next;
+    }
+
+    @Override
+    public String toString() {
+        return current.get().toString();
+    }
+
+    /**
+     * An immutable, consistent view of a {@link ConversionRateTable} at one version.
+     */
+    public static final class Snapshot {
+
+        private static final Snapshot EMPTY = new Snapshot(0, new ConversionRate<?, ?>[0][], 0);
+
+        private final long version;
+        // rows[fromId][toId]; rows only reach the highest id in use
+        private final @Nullable ConversionRate<?, ?>[][] rows;
+        private final int size;
+
+        private Snapshot(long version, @Nullable ConversionRate<?, ?>[][] rows, int size) {
+            this.version = version;
+            this.rows = rows;
+            this.size = size;
+        }
+
+        public long version() {
+            return version;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public <F extends TypedCurrency, T extends TypedCurrency> Optional<ConversionRate<F, T>> find(F from, T to) {
+            Objects.requireNonNull(from, "from");
+            Objects.requireNonNull(to, "to");
+            ConversionRate<?, ?> rate = lookup(CurrencyRegistry.id(from), CurrencyRegistry.id(to));
+            return rate == null ? Optional.empty() : Optional.of(typed(rate, from, to));
+        }
+
+        /**
+         * @throws IllegalArgumentException if there is no rate from {@code from} to {@code to}
+         */
+        public <F extends TypedCurrency, T extends TypedCurrency> ConversionRate<F, T> get(F from, T to) {
+            Objects.requireNonNull(from, "from");
+            Objects.requireNonNull(to, "to");
+            ConversionRate<?, ?> rate = lookup(CurrencyRegistry.id(from), CurrencyRegistry.id(to));
+            if (rate == null) {
+                throw new IllegalArgumentException("No rate for " + from + " -> " + to + " at version " + version);
+            }
+            return typed(rate, from, to);
+        }
+
+        public boolean contains(TypedCurrency from, TypedCurrency to) {
+            Objects.requireNonNull(from, "from");
+            Objects.requireNonNull(to, "to");
+            return lookup(CurrencyRegistry.id(from), CurrencyRegistry.id(to)) != null;
+        }
+
+        public List<ConversionRate<?, ?>> rates() {
+            List<ConversionRate<?, ?>> rates = new ArrayList<>(size);
+            for (ConversionRate<?, ?>[] row : rows) {
+                for (ConversionRate<?, ?> rate : row) {
+                    if (rate != null) {
+                        rates.add(rate);
+                    }
+                }
+            }
+            return rates;
+        }
+
+        private @Nullable ConversionRate<?, ?> lookup(int from, int to) {
+            if (from >= rows.length) {
+                return null;
+            }
+            var row = rows[from];
+            return to < row.length ? row[to] : null;
+        }
+
+        // copy-on-write: the outer array and each updated row once
+        private Snapshot with(List<ConversionRate<?, ?>> updates) {
+            int length = rows.length;
+            for (ConversionRate<?, ?> rate : updates) {
+                length = Math.max(length, Math.max(CurrencyRegistry.id(rate.from()), CurrencyRegistry.id(rate.to())) + 1);
+            }
+            var rows = Arrays.copyOf(this.rows, length);
+            boolean[] copied = new boolean[length];
+            int size = this.size;
+            for (ConversionRate<?, ?> rate : updates) {
+                int f = CurrencyRegistry.id(rate.from());
+                int t = CurrencyRegistry.id(rate.to());
+                if (!copied[f]) {
+                    rows[f] = rows[f] == null
+                      ? new ConversionRate<?, ?>[length]
+                      : Arrays.copyOf(rows[f], Math.max(rows[f].length, length));
+                    copied[f] = true;
+                }
+                if (rows[f][t] == null) {
+                    size++;
+                }
+                rows[f][t] = rate;
+            }
+            for (int i = 0; i < rows.length; i++) {
+                if (rows[i] == null) {
+                    rows[i] = new ConversionRate<?, ?>[0];
+                }
+            }
+            return new Snapshot(version + 1, rows, size);
+        }
+
+        private Snapshot without(int from, int to) {
+            if (lookup(from, to) == null) {
+                return this;
+            }
+            var rows = this.rows.clone();
+            rows[from] = rows[from].clone();
+            rows[from][to] = null;
+            return new Snapshot(version + 1, rows, size - 1);
+        }
+
+        // stored rates may carry other instances of the same currencies; the typed view carries the caller's
+        @SuppressWarnings("unchecked")
+        private static <F extends TypedCurrency, T extends TypedCurrency> ConversionRate<F, T> typed(ConversionRate<?, ?> rate, F from, T to) {
+            return rate.from() == from && rate.to() == to
+              ? (ConversionRate<F, T>) rate
+              : new ConversionRate<>(from, to, rate.rate());
+        }
+
+        @Override
+        public String toString() {
+            return "ConversionRateTable.Snapshot[version=" + version + ", size=" + size + "]";
+        }
+    }
+}
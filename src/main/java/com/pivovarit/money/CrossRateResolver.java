@@ -0,0 +1,287 @@
+package com.pivovarit.money;
+
+import com.pivovarit.money.currency.CurrencyRegistry;
+import com.pivovarit.money.currency.TypedCurrency;
+import com.pivovarit.money.math.BigRational;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Resolves a {@link ConversionRate} between any two currencies connected by a set of direct rates, composing the
+ * direct rates along the path with the fewest hops (a direct rate {@code B -> A} also serves {@code A -> B}, inverted).
+ * Among paths of equal length, paths through the preferred pivot currencies, in the order given, win.
+ * <p>
+ * Resolved rates, and the absence of a path, are memoized in a flat array indexed by the {@link CurrencyRegistry} ids
+ * of both currencies, so a repeated lookup is a single memo read; for the registry's interned currency instances it
+ * returns the memoized rate itself, without allocating. Each composite records the direct rates it was built from:
+ * changing or removing a direct rate invalidates only the composites that depend on it, while adding a new pair, which
+ * can shorten any path, invalidates everything.
+ * <p>
+ * Memoized lookups are lock-free. A lookup that misses resolves under the resolver's lock, serialized with updates
+ * and with other misses, so concurrent first lookups of unrelated pairs resolve one at a time.
+ */
+public final class CrossRateResolver {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final List<TypedCurrency> pivots;
+
+    // read without locking, replaced on invalidateAll: resolved rates by registry ids
+    private volatile Memo memo = new Memo(0);
+
+    // guarded by this: dense ids of the currencies with direct rates, by registry id (-1 if absent), and the direct
+    // rates between them by dense ids
+    private final int[] ids = new int[CurrencyRegistry.size()];
+    private int size;
+    private @Nullable ConversionRate<?, ?>[][] direct = new ConversionRate<?, ?>[INITIAL_CAPACITY][INITIAL_CAPACITY];
+    // direct rates (by dense ids) to the composites built from them (by registry ids)
+    private final Map<Long, Set<Long>> dependents = new HashMap<>();
+    // one past the highest registry id with a direct rate
+    private int stride;
+
+    private CrossRateResolver(List<TypedCurrency> pivots) {
+        this.pivots = pivots;
+        Arrays.fill(ids, -1);
+    }
+
+    public static CrossRateResolver of(Collection<? extends ConversionRate<?, ?>> directRates, TypedCurrency... pivots) {
+        Objects.requireNonNull(directRates, "directRates");
+        Objects.requireNonNull(pivots, "pivots");
+        var resolver = new CrossRateResolver(List.of(pivots));
+        resolver.updateAll(directRates);
+        return resolver;
+    }
+
+    public <F extends TypedCurrency, T extends TypedCurrency> Optional<ConversionRate<F, T>> find(F from, T to) {
+        Optional<ConversionRate<?, ?>> rate = lookup(from, to);
+        if (rate.isEmpty() || isTyped(rate.get(), from, to)) {
+            @SuppressWarnings("unchecked")
+            Optional<ConversionRate<F, T>> typed = (Optional<ConversionRate<F, T>>) (Optional<?>) rate;
+            return typed;
+        }
+        return Optional.of(new ConversionRate<>(from, to, rate.get().rate()));
+    }
+
+    /**
+     * @throws IllegalArgumentException if no chain of direct rates connects {@code from} and {@code to}
+     */
+    public <F extends TypedCurrency, T extends TypedCurrency> ConversionRate<F, T> get(F from, T to) {
+        Optional<ConversionRate<?, ?>> rate = lookup(from, to);
+        if (rate.isEmpty()) {
+            throw new IllegalArgumentException("No path from " + from + " to " + to);
+        }
+        return typed(rate.get(), from, to);
+    }
+
+    /**
+     * Adds or replaces the direct rate for {@code rate}'s currency pair.
+     */
+    public synchronized void update(ConversionRate<?, ?> rate) {
+        Objects.requireNonNull(rate, "rate");
+        int f = id(rate.from());
+        int t = id(rate.to());
+        boolean added = direct[f][t] == null;
+        direct[f][t] = rate;
+        if (added) {
+            invalidateAll();
+        } else {
+            invalidate(f, t);
+        }
+    }
+
+    public synchronized void updateAll(Collection<? extends ConversionRate<?, ?>> rates) {
+        Objects.requireNonNull(rates, "rates");
+        for (ConversionRate<?, ?> rate : rates) {
+            update(rate);
+        }
+    }
+
+    /**
+     * Removes the direct rate from {@code from} to {@code to}, if any.
+     */
+    public synchronized void remove(TypedCurrency from, TypedCurrency to) {
+        Objects.requireNonNull(from, "from");
+        Objects.requireNonNull(to, "to");
+        int f = ids[CurrencyRegistry.id(from)];
+        int t = ids[CurrencyRegistry.id(to)];
+        if (f >= 0 && t >= 0 && direct[f][t] != null) {
+            direct[f][t] = null;
+            // removing an edge can only break paths through it
+            invalidate(f, t);
+        }
+    }
+
+    private Optional<ConversionRate<?, ?>> lookup(TypedCurrency from, TypedCurrency to) {
+        Objects.requireNonNull(from, "from");
+        Objects.requireNonNull(to, "to");
+        int f = CurrencyRegistry.id(from);
+        int t = CurrencyRegistry.id(to);
+        Optional<ConversionRate<?, ?>> rate = memo.get(f, t);
+        return rate != null ? rate : resolve(f, t);
+    }
+
+    private synchronized Optional<ConversionRate<?, ?>> resolve(int fromRegistryId, int toRegistryId) {
+        Memo m = memo;
+        Optional<ConversionRate<?, ?>> rate = m.get(fromRegistryId, toRegistryId);
+        if (rate != null) {
+            return rate;
+        }
+        TypedCurrency from = CurrencyRegistry.of(fromRegistryId);
+        TypedCurrency to = CurrencyRegistry.of(toRegistryId);
+        int f = ids[fromRegistryId];
+        int t = ids[toRegistryId];
+        if (f < 0 || t < 0) {
+            // outside the memo: no direct rate involves either currency
+            return fromRegistryId == toRegistryId ? Optional.of(new ConversionRate<>(from, to, BigRational.ONE)) : Optional.empty();
+        }
+        int[] path = f == t ? new int[]{f} : path(f, t);
+        if (path == null) {
+            rate = Optional.empty();
+        } else {
+            long composite = key(fromRegistryId, toRegistryId);
+            BigRational product = BigRational.ONE;
+            for (int i = 1; i < path.length; i++) {
+                int a = path[i - 1];
+                int b = path[i];
+                var quoted = direct[a][b];
+                var edge = quoted != null ? quoted : Objects.requireNonNull(direct[b][a]);
+                product = product.multiply(quoted != null ? edge.rate() : edge.rate().inverse());
+                dependents.computeIfAbsent(quoted != null ? key(a, b) : key(b, a), k -> new HashSet<>()).add(composite);
+            }
+            rate = Optional.of(new ConversionRate<>(from, to, product));
+        }
+        m.set(fromRegistryId, toRegistryId, rate);
+        return rate;
+    }
+
+    // breadth-first over direct rates in either direction, visiting preferred pivots first; null if unreachable
+    private int @Nullable [] path(int from, int to) {
+        int n = size;
+        int[] order = visitOrder(n);
+        int[] previous = new int[n];
+        Arrays.fill(previous, -1);
+        previous[from] = from;
+        var queue = new ArrayDeque<Integer>();
+        queue.add(from);
+        while (!queue.isEmpty()) {
+            int u = queue.poll();
+            if (u == to) {
+                break;
+            }
+            for (int v : order) {
+                if (previous[v] < 0 && (direct[u][v] != null || direct[v][u] != null)) {
+                    previous[v] = u;
+                    queue.add(v);
+                }
+            }
+        }
+        if (previous[to] < 0) {
+            return null;
+        }
+        int hops = 0;
+        for (int v = to; v != from; v = previous[v]) {
+            hops++;
+        }
+        int[] path = new int[hops + 1];
+        for (int v = to, i = hops; i >= 0; v = previous[v], i--) {
+            path[i] = v;
+        }
+        return path;
+    }
+
+    private int[] visitOrder(int n) {
+        int[] order = new int[n];
+        boolean[] placed = new boolean[n];
+        int i = 0;
+        for (TypedCurrency pivot : pivots) {
+            int id = ids[CurrencyRegistry.id(pivot)];
+            if (id >= 0 && !placed[id]) {
+                order[i++] = id;
+                placed[id] = true;
+            }
+        }
+        for (int id = 0; id < n; id++) {
+            if (!placed[id]) {
+                order[i++] = id;
+            }
+        }
+        return order;
+    }
+
+    private int id(TypedCurrency currency) {
+        int registryId = CurrencyRegistry.id(currency);
+        int id = ids[registryId];
+        if (id >= 0) {
+            return id;
+        }
+        int next = size++;
+        ids[registryId] = next;
+        stride = Math.max(stride, registryId + 1);
+        if (next == direct.length) {
+            int capacity = 2 * direct.length;
+            direct = Arrays.copyOf(direct, capacity);
+            for (int i = 0; i < capacity; i++) {
+                direct[i] = i < next ? Arrays.copyOf(direct[i], capacity) : new ConversionRate<?, ?>[capacity];
+            }
+        }
+        return next;
+    }
+
+    private void invalidateAll() {
+        memo = new Memo(stride);
+        dependents.clear();
+    }
+
+    private void invalidate(int from, int to) {
+        Memo m = memo;
+        Set<Long> composites = dependents.remove(key(from, to));
+        if (composites != null) {
+            for (long composite : composites) {
+                m.set((int) (composite >>> 32), (int) composite, null);
+            }
+        }
+        // a memoized path-less pair cannot gain a path from a changed or removed rate
+    }
+
+    private static long key(int from, int to) {
+        return (long) from << 32 | to;
+    }
+
+    // memoized rates are built from the registry's interned instances, which is what callers normally pass
+    private static boolean isTyped(ConversionRate<?, ?> rate, TypedCurrency from, TypedCurrency to) {
+        return rate.from() == from && rate.to() == to;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <F extends TypedCurrency, T extends TypedCurrency> ConversionRate<F, T> typed(ConversionRate<?, ?> rate, F from, T to) {
+        return isTyped(rate, from, to)
+          ? (ConversionRate<F, T>) rate
+          : new ConversionRate<>(from, to, rate.rate());
+    }
+
+    // rates[from * stride + to] by registry ids, null where not resolved yet
+    private record Memo(int stride, AtomicReferenceArray<Optional<ConversionRate<?, ?>>> rates) {
+
+        Memo(int stride) {
+            this(stride, new AtomicReferenceArray<>(stride * stride));
+        }
+
+        @Nullable Optional<ConversionRate<?, ?>> get(int from, int to) {
+            return from < stride && to < stride ? rates.get(from * stride + to) : null;
+        }
+
+        void set(int from, int to, @Nullable Optional<ConversionRate<?, ?>> rate) {
+            rates.set(from * stride + to, rate);
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.pivovarit.money;
+
+import com.pivovarit.money.currency.TypedCurrency;
+import com.pivovarit.money.math.BigRational;
+import com.pivovarit.money.math.Rounding;
+import java.math.BigDecimal;
+import java.util.Objects;
+
+/**
+ * Money as a {@code long} number of minor units of its currency (cents for {@code EUR}, yen for {@code JPY}), for
+ * ledger paths where amounts are always whole minor units.
+ * <p>
+ * Addition, subtraction, negation, integer multiplication and comparison stay exact on {@code long}s and throw
+ * {@link ArithmeticException} on overflow instead of wrapping. Anything that can leave whole minor units (rational
+ * factors, division, currency conversion) promotes to {@link Money} explicitly.
+ */
+public record FastMoney<T extends TypedCurrency>(long minorUnits, T currency) implements Comparable<FastMoney<T>> {
+
+    private static final int MAX_FRACTION_DIGITS = 18;
+
+    public FastMoney {
+        Objects.requireNonNull(currency, "currency");
+        minorUnitDigits(currency);
+    }
+
+    public static <T extends TypedCurrency> FastMoney<T> ofMinor(long minorUnits, T currency) {
+        return new FastMoney<>(minorUnits, currency);
+    }
+
+    /**
+     * @throws ArithmeticException if {@code money} is not a whole number of minor units or does not fit a {@code long}
+     */
+    public static <T extends TypedCurrency> FastMoney<T> from(Money<T> money) {
+        Objects.requireNonNull(money, "money");
+        int digits = minorUnitDigits(money.currency());
+        if (!money.amount().isExactAt(digits)) {
+            throw new ArithmeticException("rounding necessary: more than " + digits + " fraction digits: " + money);
+        }
+        // exact, so every rounding mode gives the same minor units
+        return new FastMoney<>(money.amount().toUnscaledLong(digits, Rounding.FLOOR), money.currency());
+    }
+
+    /**
+     * @throws ArithmeticException if the rounded amount does not fit a {@code long}
+     */
+    public static <T extends TypedCurrency> FastMoney<T> from(Money<T> money, Rounding rounding) {
+        Objects.requireNonNull(money, "money");
+        return new FastMoney<>(money.amount().toUnscaledLong(minorUnitDigits(money.currency()), rounding), money.currency());
+    }
+
+    public static <T extends TypedCurrency> FastMoney<T> from(String amount, T currency) {
+        return from(Money.from(amount, currency));
+    }
+
+    public int fractionDigits() {
+        return MonetaryContext.of(currency).fractionDigits();
+    }
+
+    public Money<T> toMoney() {
+        return Money.from(BigRational.ofUnscaled(minorUnits, fractionDigits()), currency);
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(minorUnits, fractionDigits());
+    }
+
+    public boolean isZero() {
+        return minorUnits == 0;
+    }
+
+    public int signum() {
+        return Long.signum(minorUnits);
+    }
+
+    public FastMoney<T> add(FastMoney<T> addend) {
+        Objects.requireNonNull(addend, "addend");
+        requireSameCurrency(addend.currency);
+        return new FastMoney<>(Math.addExact(minorUnits, addend.minorUnits), currency);
+    }
+
+    public FastMoney<T> subtract(FastMoney<T> subtrahend) {
+        Objects.requireNonNull(subtrahend, "subtrahend");
+        requireSameCurrency(subtrahend.currency);
+        return new FastMoney<>(Math.subtractExact(minorUnits, subtrahend.minorUnits), currency);
+    }
+
+    public FastMoney<T> multiply(long factor) {
+        return new FastMoney<>(Math.multiplyExact(minorUnits, factor), currency);
+    }
+
+    public FastMoney<T> negate() {
+        return new FastMoney<>(Math.negateExact(minorUnits), currency);
+    }
+
+    public FastMoney<T> abs() {
+        return minorUnits < 0 ? negate() : this;
+    }
+
+    /**
+     * Promotes to {@link Money}: the product is exact but generally not a whole number of minor units.
+     */
+    public Money<T> multiply(BigRational factor) {
+        Objects.requireNonNull(factor, "factor");
+        return toMoney().multiply(factor);
+    }
+
+    /**
+     * Promotes to {@link Money}: the quotient is exact but generally not a whole number of minor units.
+     */
+    public Money<T> divide(long divisor) {
+        if (divisor == 0) {
+            throw new ArithmeticException("division by zero");
+        }
+        return Money.from(BigRational.ofUnscaled(minorUnits, fractionDigits()).divide(divisor), currency);
+    }
+
+    /**
+     * Promotes to {@link Money} in the target currency.
+     */
+    public <R extends TypedCurrency> Money<R> convert(ConversionRate<T, R> rate) {
+        Objects.requireNonNull(rate, "rate");
+        return rate.exchange(toMoney());
+    }
+
+    @Override
+    public int compareTo(FastMoney<T> other) {
+        Objects.requireNonNull(other, "other");
+        requireSameCurrency(other.currency);
+        return Long.compare(minorUnits, other.minorUnits);
+    }
+
+    private void requireSameCurrency(TypedCurrency other) {
+        if (!currency.currency().equals(other.currency())) {
+            var msg = "Currency mismatch: %s vs %s".formatted(currency.currency().getCurrencyCode(), other.currency()
+              .getCurrencyCode());
+            throw new IllegalArgumentException(msg);
+        }
+    }
+
+    private static int minorUnitDigits(TypedCurrency currency) {
+        int digits = MonetaryContext.of(currency).fractionDigits();
+        if (digits < 0 || digits > MAX_FRACTION_DIGITS) {
+            throw new IllegalArgumentException("currency has no minor units: " + currency.currency().getCurrencyCode());
+        }
+        return digits;
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString() + " " + currency.currency().getCurrencyCode();
+    }
+}
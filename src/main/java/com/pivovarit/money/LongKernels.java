@@ -0,0 +1,57 @@
+package com.pivovarit.money;
+
+/**
+ * Bulk operations over the first {@code n} elements of a {@code long} column, as used by {@link MoneyVector}.
+ * <p>
+ * Kernels never wrap silently: operations that can overflow report it and leave the fallback to the caller.
+ */
+interface LongKernels {
+
+    String SCALAR_PROPERTY = "com.pivovarit.money.vector.scalar";
+
+    LongKernels INSTANCE = select();
+
+    /**
+     * @return {@code true} and the exact sum in {@code out[0]}, or {@code false} if any partial sum overflowed
+     */
+    boolean sum(long[] a, int n, long[] out);
+
+    /**
+     * Writes {@code -a[i]} to {@code dst[i]} for every element but {@link Long#MIN_VALUE}, whose {@code dst} lanes are
+     * unspecified.
+     *
+     * @return {@code false} if any element is {@link Long#MIN_VALUE}
+     */
+    boolean negate(long[] a, int n, long[] dst);
+
+    /**
+     * @return {@code false} if any product overflows, in which case {@code dst} is unspecified
+     */
+    boolean multiply(long[] a, int n, long factor, long[] dst);
+
+    /**
+     * Sets bit {@code i} of {@code words} for every {@code a[i] > threshold}; {@code words} must be zeroed.
+     */
+    void greaterThan(long[] a, int n, long threshold, long[] words);
+
+    /**
+     * Sets bit {@code i} of {@code words} for every {@code a[i] < threshold}; {@code words} must be zeroed.
+     */
+    void lessThan(long[] a, int n, long threshold, long[] words);
+
+    long min(long[] a, int n);
+
+    long max(long[] a, int n);
+
+    // the Vector API is an incubator module: only used when it was resolved at startup (--add-modules jdk.incubator.vector)
+    private static LongKernels select() {
+        if (Boolean.getBoolean(SCALAR_PROPERTY) || ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+            return ScalarLongKernels.INSTANCE;
+        }
+        try {
+            return new VectorLongKernels();
+        } catch (LinkageError e) {
+            return ScalarLongKernels.INSTANCE;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.pivovarit.money;
+
+import com.pivovarit.money.currency.CurrencyInfo;
+import com.pivovarit.money.currency.CurrencyRegistry;
+import com.pivovarit.money.currency.TypedCurrency;
+import com.pivovarit.money.math.BigRational;
+import com.pivovarit.money.math.Decimal;
+import com.pivovarit.money.math.Rounding;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The rounding parameters of a currency: its fraction digits, the number of minor units in a major unit, and the
+ * increment cash amounts are rounded to. One context per {@link CurrencyRegistry} currency is built at startup, so
+ * rounding an amount never goes back to {@link java.util.Currency}.
+ */
+public final class MonetaryContext {
+
+    // the smallest coin in circulation, in minor units, where it is larger than one minor unit
+    private static final Map<String, Long> CASH_INCREMENTS = Map.of(
+      "AUD", 5L, "CAD", 5L, "CHF", 5L, "CZK", 100L, "DKK", 50L,
+      "HUF", 500L, "ILS", 10L, "NOK", 100L, "NZD", 10L, "SEK", 100L);
+
+    private static final MonetaryContext[] CONTEXTS = new MonetaryContext[CurrencyRegistry.size()];
+
+    static {
+        for (int id = 0; id < CONTEXTS.length; id++) {
+            CONTEXTS[id] = new MonetaryContext(CurrencyRegistry.info(id));
+        }
+    }
+
+    private final TypedCurrency currency;
+    private final int fractionDigits;
+    private final long scaleFactor;
+
+    private final long cashIncrement;
+    // cash remainders round away from zero above half the increment, and on HALF_UP (or HALF_EVEN towards an even
+    // multiple) at exactly half, which only exists for even increments
+    private final long halfIncrement;
+    private final boolean evenIncrement;
+    private final BigRational cashUnitsPerMajorUnit;
+
+    private MonetaryContext(CurrencyInfo info) {
+        this.currency = info.currency();
+        this.fractionDigits = info.fractionDigits();
+        this.scaleFactor = BigInteger.TEN.pow(Math.max(fractionDigits, 0)).longValueExact();
+        this.cashIncrement = CASH_INCREMENTS.getOrDefault(info.code(), 1L);
+        this.halfIncrement = cashIncrement / 2;
+        this.evenIncrement = cashIncrement % 2 == 0;
+        this.cashUnitsPerMajorUnit = BigRational.of(scaleFactor).divide(BigRational.of(cashIncrement));
+    }
+
+    public static MonetaryContext of(TypedCurrency currency) {
+        return CONTEXTS[CurrencyRegistry.id(currency)];
+    }
+
+    /**
+     * The interned instance of the currency.
+     */
+    public TypedCurrency currency() {
+        return currency;
+    }
+
+    /**
+     * The default fraction digits, {@code -1} for currencies without minor units (e.g. {@code XAU}).
+     */
+    public int fractionDigits() {
+        return fractionDigits;
+    }
+
+    /**
+     * {@code 10^fractionDigits()}, the number of minor units in a major unit ({@code 1} without minor units).
+     */
+    public long scaleFactor() {
+        return scaleFactor;
+    }
+
+    /**
+     * The minor units cash amounts are rounded to, e.g. {@code 5} for {@code CHF}; {@code 1} for most currencies.
+     */
+    public long cashIncrement() {
+        return cashIncrement;
+    }
+
+    /**
+     * Rounds {@code amount} to {@link #fractionDigits()} with {@code rounding}, as {@link Money#toDecimal(Rounding)}.
+     * The rounding takes its powers of ten from the tables shared by all of {@link BigRational}'s conversions.
+     *
+     * @throws ArithmeticException if the currency has no minor units
+     */
+    public Decimal round(BigRational amount, Rounding rounding) {
+        Objects.requireNonNull(amount, "amount");
+        return amount.toDecimal(fractionDigits, rounding);
+    }
+
+    /**
+     * The unscaled value of {@code round(amount, rounding).value()}.
+     *
+     * @throws ArithmeticException if the currency has no minor units or the result does not fit a {@code long}
+     */
+    public long toMinorUnits(BigRational amount, Rounding rounding) {
+        Objects.requireNonNull(amount, "amount");
+        return amount.toUnscaledLong(fractionDigits, rounding);
+    }
+
+    /**
+     * {@code amount} rounded, in one step, to a multiple of the {@linkplain #cashIncrement() cash increment}.
+     *
+     * @throws ArithmeticException if the currency has no minor units
+     */
+    public Decimal roundToCash(BigRational amount, Rounding rounding) {
+        Objects.requireNonNull(amount, "amount");
+        if (cashIncrement == 1) {
+            return round(amount, rounding);
+        }
+        BigInteger units = amount.multiply(cashUnitsPerMajorUnit).toUnscaled(0, rounding);
+        var value = new BigDecimal(units.multiply(BigInteger.valueOf(cashIncrement)), fractionDigits);
+        return new Decimal(value, amount.subtract(BigRational.of(value)));
+    }
+
+    /**
+     * {@code minorUnits} rounded to a multiple of the {@linkplain #cashIncrement() cash increment}.
+     *
+     * @throws ArithmeticException if the result overflows a {@code long}
+     */
+    public long roundToCash(long minorUnits, Rounding rounding) {
+        Objects.requireNonNull(rounding, "rounding");
+        long q = minorUnits / cashIncrement;
+        long r = minorUnits % cashIncrement;
+        if (r == 0) {
+            return minorUnits;
+        }
+        long abs = Math.abs(r);
+        boolean away = switch (rounding) {
+            case FLOOR -> r < 0;
+            case CEIL -> r > 0;
+            case HALF_UP -> abs > halfIncrement || abs == halfIncrement && evenIncrement;
+            case HALF_EVEN -> abs > halfIncrement || abs == halfIncrement && evenIncrement && (q & 1) != 0;
+        };
+        return Math.multiplyExact(away ? q + Long.signum(r) : q, cashIncrement);
+    }
+
+    @Override
+    public String toString() {
+        return "MonetaryContext[" + currency + ", fractionDigits=" + fractionDigits + ", cashIncrement=" + cashIncrement + "]";
+    }
+}
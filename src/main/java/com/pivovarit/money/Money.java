@@ -11,13 +11,18 @@ import com.pivovarit.money.currency.ILS;
 import com.pivovarit.money.currency.PLN;
 import com.pivovarit.money.currency.TypedCurrency;
 import com.pivovarit.money.currency.USD;
+import com.pivovarit.money.math.Approximation;
 import com.pivovarit.money.math.BigRational;
 import com.pivovarit.money.math.Decimal;
+import com.pivovarit.money.math.DenominatorLimit;
 import com.pivovarit.money.math.Rounding;
 import java.math.BigDecimal;
+import java.nio.ByteBuffer;
 import java.util.Objects;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
 
-public record Money<T extends TypedCurrency>(BigRational amount, T currency) {
+public record Money<T extends TypedCurrency>(BigRational amount, T currency) implements Comparable<Money<T>> {
 
     public static <T extends TypedCurrency> Money<T> from(BigRational amount, T currency) {
         return new Money<>(amount, currency);
@@ -43,16 +48,59 @@ public record Money<T extends TypedCurrency>(BigRational amount, T currency) {
         return new Money<>(BigRational.of(amount), TypedCurrency.from(currencyCode));
     }
 
+    /**
+     * Exact sum in {@code currency}; accumulates over a common denominator and reduces once, so parallel and sequential
+     * streams produce identical results.
+     */
+    public static <T extends TypedCurrency> Collector<Money<T>, ?, Money<T>> summing(T currency) {
+        Objects.requireNonNull(currency, "currency");
+        return Collector.of(
+          () -> MoneyAccumulator.of(currency),
+          MoneyAccumulator::add,
+          MoneyAccumulator::add,
+          MoneyAccumulator::result,
+          Collector.Characteristics.UNORDERED);
+    }
+
+    /**
+     * Exact sum of {@code Money<F>} amounts exchanged to {@code T}, applying the rate once to the sum.
+     */
+    public static <F extends TypedCurrency, T extends TypedCurrency> Collector<Money<F>, ?, Money<T>> summingConverted(ConversionRate<F, T> rate) {
+        Objects.requireNonNull(rate, "rate");
+        return Collector.of(
+          () -> MoneyAccumulator.of(rate.from()),
+          MoneyAccumulator::add,
+          MoneyAccumulator::add,
+          sum -> rate.exchange(sum.result()),
+          Collector.Characteristics.UNORDERED);
+    }
+
+    /**
+     * Exact arithmetic mean in {@code currency}, zero for no elements.
+     */
+    public static <T extends TypedCurrency> Collector<Money<T>, ?, Money<T>> averaging(T currency) {
+        return Collectors.teeing(summing(currency), Collectors.counting(), (sum, count) -> count == 0
+          ? sum
+          : from(sum.amount().divide(count), currency));
+    }
+
     public int fractionDigits() {
-        return currency.currency().getDefaultFractionDigits();
+        return MonetaryContext.of(currency).fractionDigits();
     }
 
     public Decimal toDecimal() {
-        return amount.toDecimal(currency.currency().getDefaultFractionDigits(), Rounding.HALF_UP);
+        return toDecimal(Rounding.HALF_UP);
     }
 
     public Decimal toDecimal(Rounding rounding) {
-        return amount.toDecimal(currency.currency().getDefaultFractionDigits(), rounding);
+        var context = MonetaryContext.of(currency);
+        if (!MoneyEvents.ToDecimal.enabled()) {
+            return context.round(amount, rounding);
+        }
+        var event = MoneyEvents.ToDecimal.start();
+        Decimal decimal = context.round(amount, rounding);
+        event.commit(this, rounding);
+        return decimal;
     }
 
     public Money<T> add(Money<T> addend) {
@@ -91,12 +139,36 @@ public record Money<T extends TypedCurrency>(BigRational amount, T currency) {
         return from(amount.multiply(factor), currency);
     }
 
+    /**
+     * Multiplies by {@code factor} and bounds the denominator of the product to {@code limit}; the error is in units of
+     * {@code currency}.
+     */
+    public Approximation<Money<T>> multiply(BigRational factor, DenominatorLimit limit) {
+        return multiply(factor).limitDenominator(limit);
+    }
+
+    /**
+     * This amount with its denominator bounded to {@code limit}; the error is in units of {@code currency}.
+     */
+    public Approximation<Money<T>> limitDenominator(DenominatorLimit limit) {
+        Objects.requireNonNull(limit, "limit");
+        Approximation<BigRational> limited = limit.apply(amount);
+        return new Approximation<>(limited.isExact() ? this : from(limited.value(), currency), limited.error());
+    }
+
+    @Override
+    public int compareTo(Money<T> other) {
+        Objects.requireNonNull(other, "other");
+        requireSameCurrency(other);
+        return amount.compareTo(other.amount);
+    }
+
     public <R extends TypedCurrency> Money<R> convert(ConversionRate<T, R> rate) {
         return rate.exchange(this);
     }
 
     private void requireSameCurrency(Money<? extends TypedCurrency> other) {
-        if (!currency.currency().equals(other.currency().currency())) {
+        if (currency != other.currency() && !currency.currency().equals(other.currency().currency())) {
             var msg = "Currency mismatch: %s vs %s".formatted(currency.currency().getCurrencyCode(), other.currency()
               .currency().getCurrencyCode());
             throw new IllegalArgumentException(msg
@@ -154,8 +226,26 @@ public record Money<T extends TypedCurrency>(BigRational amount, T currency) {
         }
     }
 
+    /**
+     * Writes {@link #toString()} to {@code out}.
+     *
+     * @see MoneyFormatter
+     */
+    public <A extends Appendable> A formatTo(A out) {
+        return MoneyFormatter.DEFAULT.formatTo(this, out);
+    }
+
+    /**
+     * Writes {@link #toString()} to {@code out} as ISO-8859-1 bytes.
+     *
+     * @see MoneyFormatter
+     */
+    public ByteBuffer formatTo(ByteBuffer out) {
+        return MoneyFormatter.DEFAULT.formatTo(this, out);
+    }
+
     @Override
     public String toString() {
-        return toDecimal().value() + " " + currency.currency().getCurrencyCode();
+        return MoneyFormatter.DEFAULT.format(this);
     }
 }
@@ -0,0 +1,75 @@
+package com.pivovarit.money;
+
+import com.pivovarit.money.currency.TypedCurrency;
+import com.pivovarit.money.math.BigRational;
+import com.pivovarit.money.math.RationalAccumulator;
+import java.util.Objects;
+
+/**
+ * Mutable, currency-typed running sum of {@link Money} amounts, backed by a {@link RationalAccumulator}: addends are
+ * accumulated over a common denominator without intermediate {@code Money} instances or reductions, and the exact sum is
+ * produced by {@link #result()}. Not thread-safe.
+ */
+public final class MoneyAccumulator<T extends TypedCurrency> {
+
+    private final T currency;
+    private final RationalAccumulator amount = new RationalAccumulator();
+
+    private MoneyAccumulator(T currency) {
+        this.currency = currency;
+    }
+
+    public static <T extends TypedCurrency> MoneyAccumulator<T> of(T currency) {
+        Objects.requireNonNull(currency, "currency");
+        return new MoneyAccumulator<>(currency);
+    }
+
+    public T currency() {
+        return currency;
+    }
+
+    public MoneyAccumulator<T> add(Money<T> addend) {
+        Objects.requireNonNull(addend, "addend");
+        requireSameCurrency(addend.currency());
+        amount.add(addend.amount());
+        return this;
+    }
+
+    public MoneyAccumulator<T> add(BigRational addend) {
+        Objects.requireNonNull(addend, "addend");
+        amount.add(addend);
+        return this;
+    }
+
+    public MoneyAccumulator<T> add(MoneyAccumulator<T> other) {
+        Objects.requireNonNull(other, "other");
+        requireSameCurrency(other.currency);
+        amount.add(other.amount);
+        return this;
+    }
+
+    public MoneyAccumulator<T> subtract(Money<T> subtrahend) {
+        Objects.requireNonNull(subtrahend, "subtrahend");
+        requireSameCurrency(subtrahend.currency());
+        amount.subtract(subtrahend.amount());
+        return this;
+    }
+
+    public MoneyAccumulator<T> subtract(BigRational subtrahend) {
+        Objects.requireNonNull(subtrahend, "subtrahend");
+        amount.subtract(subtrahend);
+        return this;
+    }
+
+    public Money<T> result() {
+        return Money.from(amount.result(), currency);
+    }
+
+    private void requireSameCurrency(TypedCurrency other) {
+        if (!currency.currency().equals(other.currency())) {
+            var msg = "Currency mismatch: %s vs %s".formatted(currency.currency().getCurrencyCode(), other.currency()
+              .getCurrencyCode());
+            throw new IllegalArgumentException(msg);
+        }
+    }
+}
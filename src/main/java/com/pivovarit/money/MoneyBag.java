@@ -0,0 +1,202 @@
+package com.pivovarit.money;
+
+import com.pivovarit.money.currency.CurrencyRegistry;
+import com.pivovarit.money.currency.TypedCurrency;
+import com.pivovarit.money.math.BigRational;
+import com.pivovarit.money.math.RationalAccumulator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.stream.Collector;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Mutable, exact running sums of {@link Money} amounts in any number of currencies, one {@link RationalAccumulator}
+ * per currency in a slot indexed by its {@link CurrencyRegistry} id: adding an amount is an id lookup and an
+ * accumulation, with no hashing and no intermediate {@code Money} instances. Bags merge slot by slot, so partial bags
+ * of a parallel reduction combine cheaply, and {@link #valueIn} converts every slot exactly and leaves the single
+ * rounding to the caller. Not thread-safe.
+ */
+public final class MoneyBag {
+
+    // slots[id] is null for currencies never added; the array only reaches the highest id in use
+    private @Nullable RationalAccumulator[] slots = new RationalAccumulator[0];
+
+    private MoneyBag() {
+    }
+
+    public static MoneyBag empty() {
+        return new MoneyBag();
+    }
+
+    public static MoneyBag of(Collection<? extends Money<?>> amounts) {
+        Objects.requireNonNull(amounts, "amounts");
+        var bag = new MoneyBag();
+        for (Money<?> amount : amounts) {
+            bag.add(amount);
+        }
+        return bag;
+    }
+
+    /**
+     * Exact per-currency sums; partial bags are merged with {@link #add(MoneyBag)}, so parallel and sequential streams
+     * produce identical results.
+     */
+    public static Collector<Money<?>, ?, MoneyBag> summing() {
+        return Collector.of(
+          MoneyBag::new,
+          MoneyBag::add,
+          MoneyBag::add,
+          Collector.Characteristics.UNORDERED,
+          Collector.Characteristics.IDENTITY_FINISH);
+    }
+
+    public MoneyBag add(Money<?> addend) {
+        Objects.requireNonNull(addend, "addend");
+        slot(CurrencyRegistry.id(addend.currency())).add(addend.amount());
+        return this;
+    }
+
+    public MoneyBag subtract(Money<?> subtrahend) {
+        Objects.requireNonNull(subtrahend, "subtrahend");
+        slot(CurrencyRegistry.id(subtrahend.currency())).subtract(subtrahend.amount());
+        return this;
+    }
+
+    /**
+     * Adds every sum of {@code other} (left unchanged).
+     */
+    public MoneyBag add(MoneyBag other) {
+        Objects.requireNonNull(other, "other");
+        var theirs = other.slots;
+        if (theirs.length > slots.length) {
+            slots = Arrays.copyOf(slots, theirs.length);
+        }
+        for (int id = 0; id < theirs.length; id++) {
+            var sum = theirs[id];
+            if (sum != null) {
+                var slot = slots[id];
+                if (slot == null) {
+                    slot = slots[id] = new RationalAccumulator();
+                }
+                slot.add(sum);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * The exact sum in {@code currency}, zero if none was added.
+     */
+    public <T extends TypedCurrency> Money<T> get(T currency) {
+        Objects.requireNonNull(currency, "currency");
+        int id = CurrencyRegistry.id(currency);
+        var slot = id < slots.length ? slots[id] : null;
+        return Money.from(slot == null ? BigRational.ZERO : slot.result(), currency);
+    }
+
+    public boolean contains(TypedCurrency currency) {
+        Objects.requireNonNull(currency, "currency");
+        int id = CurrencyRegistry.id(currency);
+        return id < slots.length && slots[id] != null;
+    }
+
+    /**
+     * The currencies added to this bag, in registry id order.
+     */
+    public List<TypedCurrency> currencies() {
+        List<TypedCurrency> currencies = new ArrayList<>();
+        for (int id = 0; id < slots.length; id++) {
+            if (slots[id] != null) {
+                currencies.add(CurrencyRegistry.of(id));
+            }
+        }
+        return currencies;
+    }
+
+    /**
+     * The exact sum in every currency added to this bag, in registry id order.
+     */
+    public List<Money<TypedCurrency>> amounts() {
+        List<Money<TypedCurrency>> amounts = new ArrayList<>();
+        for (int id = 0; id < slots.length; id++) {
+            var slot = slots[id];
+            if (slot != null) {
+                amounts.add(Money.from(slot.result(), CurrencyRegistry.of(id)));
+            }
+        }
+        return amounts;
+    }
+
+    public boolean isEmpty() {
+        for (RationalAccumulator slot : slots) {
+            if (slot != null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * The exact value of the whole bag in {@code base}: every sum is converted at {@code rates} and the converted sums
+     * are added exactly, so rounding the result (e.g. with {@link Money#toDecimal()}) is the only rounding.
+     *
+     * @throws IllegalArgumentException if {@code rates} has no rate from a currency in this bag to {@code base}
+     */
+    public <T extends TypedCurrency> Money<T> valueIn(T base, ConversionRateTable.Snapshot rates) {
+        Objects.requireNonNull(rates, "rates");
+        return valueIn(base, rates::get);
+    }
+
+    /**
+     * {@link #valueIn(TypedCurrency, ConversionRateTable.Snapshot)} at the current snapshot of {@code rates}.
+     */
+    public <T extends TypedCurrency> Money<T> valueIn(T base, ConversionRateTable rates) {
+        Objects.requireNonNull(rates, "rates");
+        return valueIn(base, rates.snapshot());
+    }
+
+    /**
+     * {@link #valueIn(TypedCurrency, ConversionRateTable.Snapshot)} at rates resolved through {@code rates}.
+     *
+     * @throws IllegalArgumentException if no chain of rates connects a currency in this bag to {@code base}
+     */
+    public <T extends TypedCurrency> Money<T> valueIn(T base, CrossRateResolver rates) {
+        Objects.requireNonNull(rates, "rates");
+        return valueIn(base, rates::get);
+    }
+
+    private <T extends TypedCurrency> Money<T> valueIn(T base, BiFunction<TypedCurrency, T, ConversionRate<?, ?>> rates) {
+        Objects.requireNonNull(base, "base");
+        int baseId = CurrencyRegistry.id(base);
+        var total = new RationalAccumulator();
+        for (int id = 0; id < slots.length; id++) {
+            var slot = slots[id];
+            if (slot == null) {
+                continue;
+            }
+            BigRational sum = slot.result();
+            total.add(id == baseId ? sum : sum.multiply(rates.apply(CurrencyRegistry.of(id), base).rate()));
+        }
+        return Money.from(total.result(), base);
+    }
+
+    private RationalAccumulator slot(int id) {
+        if (id >= slots.length) {
+            slots = Arrays.copyOf(slots, Math.max(id + 1, 2 * slots.length));
+        }
+        var slot = slots[id];
+        if (slot == null) {
+            slot = slots[id] = new RationalAccumulator();
+        }
+        return slot;
+    }
+
+    @Override
+    public String toString() {
+        return "MoneyBag" + amounts();
+    }
+}
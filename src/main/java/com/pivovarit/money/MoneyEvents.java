@@ -0,0 +1,128 @@
+package com.pivovarit.money;
+
+import com.pivovarit.money.math.BigRational;
+import com.pivovarit.money.math.Rounding;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR events for {@link Money#toDecimal()} and {@link ConversionRate#exchange(Money)} on wide amounts, with the same
+ * {@code com.pivovarit.money.jfr.bitLengthThreshold} (1024 by default) as {@code com.pivovarit.money.RationalOperation}.
+ * Nothing is allocated or computed for them unless the event is enabled.
+ */
+final class MoneyEvents {
+
+    static final int BIT_LENGTH_THRESHOLD = Math.max(0, Integer.getInteger("com.pivovarit.money.jfr.bitLengthThreshold", 1024));
+
+    private MoneyEvents() {
+    }
+
+    @Name("com.pivovarit.money.ToDecimal")
+    @Label("Money To Decimal")
+    @Category({"Money"})
+    @Description("Rounding of a wide Money amount to the currency's fraction digits")
+    @StackTrace
+    static final class ToDecimal extends Event {
+
+        @Label("Currency")
+        String currency;
+
+        @Label("Fraction Digits")
+        int fractionDigits;
+
+        @Label("Rounding")
+        String rounding;
+
+        @Label("Amount Bit Length")
+        int amountBitLength;
+
+        private static final EventType TYPE = EventType.getEventType(ToDecimal.class);
+
+        // checked before creating an event, which is not always scalar-replaced when recording is off
+        static boolean enabled() {
+            return TYPE.isEnabled();
+        }
+
+        static ToDecimal start() {
+            var event = new ToDecimal();
+            event.begin();
+            return event;
+        }
+
+        void commit(Money<?> money, Rounding rounding) {
+            end();
+            if (isEnabled()) {
+                int bits = bitLength(money.amount());
+                if (bits >= BIT_LENGTH_THRESHOLD && shouldCommit()) {
+                    this.currency = money.currency().currency().getCurrencyCode();
+                    this.fractionDigits = money.fractionDigits();
+                    this.rounding = rounding.name();
+                    this.amountBitLength = bits;
+                    commit();
+                }
+            }
+        }
+    }
+
+    @Name("com.pivovarit.money.Exchange")
+    @Label("Money Exchange")
+    @Category({"Money"})
+    @Description("Currency conversion with a wide amount, rate or result")
+    @StackTrace
+    static final class Exchange extends Event {
+
+        @Label("From")
+        String from;
+
+        @Label("To")
+        String to;
+
+        @Label("Amount Bit Length")
+        int amountBitLength;
+
+        @Label("Rate Bit Length")
+        int rateBitLength;
+
+        @Label("Result Bit Length")
+        int resultBitLength;
+
+        private static final EventType TYPE = EventType.getEventType(Exchange.class);
+
+        static boolean enabled() {
+            return TYPE.isEnabled();
+        }
+
+        static Exchange start() {
+            var event = new Exchange();
+            event.begin();
+            return event;
+        }
+
+        <T extends Money<?>> T commit(ConversionRate<?, ?> rate, Money<?> money, T result) {
+            end();
+            if (isEnabled()) {
+                int amount = bitLength(money.amount());
+                int factor = bitLength(rate.rate());
+                int bits = bitLength(result.amount());
+                if (Math.max(bits, Math.max(amount, factor)) >= BIT_LENGTH_THRESHOLD && shouldCommit()) {
+                    this.from = rate.from().currency().getCurrencyCode();
+                    this.to = rate.to().currency().getCurrencyCode();
+                    this.amountBitLength = amount;
+                    this.rateBitLength = factor;
+                    this.resultBitLength = bits;
+                    commit();
+                }
+            }
+            return result;
+        }
+    }
+
+    private static int bitLength(BigRational value) {
+        return value.numerator().bitLength() + value.denominator().bitLength();
+    }
+}
@@ -0,0 +1,221 @@
+package com.pivovarit.money;
+
+import com.pivovarit.money.math.Rounding;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * Reusable, immutable {@link Money} formatter: the amount rounded to the currency's default fraction digits, with
+ * configurable separators and currency code placement ({@code 1,234.50 EUR} / {@code EUR 1,234.50} / {@code 1234.50}).
+ * <p>
+ * Digits are written straight into the target: amounts whose rounded unscaled value fits a {@code long} are formatted
+ * without computing the rounding residual and without intermediate {@code BigDecimal}s or {@code String}s.
+ * {@link ByteBuffer} targets receive ISO-8859-1 bytes.
+ */
+public record MoneyFormatter(Rounding rounding, char decimalSeparator, char groupingSeparator, CurrencyPlacement currencyPlacement) {
+
+    public static final char NO_GROUPING = '\0';
+
+    /**
+     * {@code 1234.50 EUR}, rounded half-up; the format of {@link Money#toString()}.
+     */
+    public static final MoneyFormatter DEFAULT = new MoneyFormatter(Rounding.HALF_UP, '.', NO_GROUPING, CurrencyPlacement.SUFFIX);
+
+    public enum CurrencyPlacement {
+        PREFIX, SUFFIX, NONE
+    }
+
+    public MoneyFormatter {
+        Objects.requireNonNull(rounding, "rounding");
+        Objects.requireNonNull(currencyPlacement, "currencyPlacement");
+        if (decimalSeparator == NO_GROUPING || decimalSeparator > 0xFF || groupingSeparator > 0xFF) {
+            throw new IllegalArgumentException("separators must be ISO-8859-1 characters");
+        } else if (decimalSeparator == groupingSeparator || Character.isDigit(decimalSeparator) || Character.isDigit(groupingSeparator)) {
+            throw new IllegalArgumentException("ambiguous separators: '" + decimalSeparator + "' and '" + groupingSeparator + "'");
+        }
+    }
+
+    public MoneyFormatter withRounding(Rounding rounding) {
+        return new MoneyFormatter(rounding, decimalSeparator, groupingSeparator, currencyPlacement);
+    }
+
+    public MoneyFormatter withDecimalSeparator(char decimalSeparator) {
+        return new MoneyFormatter(rounding, decimalSeparator, groupingSeparator, currencyPlacement);
+    }
+
+    public MoneyFormatter withGroupingSeparator(char groupingSeparator) {
+        return new MoneyFormatter(rounding, decimalSeparator, groupingSeparator, currencyPlacement);
+    }
+
+    public MoneyFormatter withCurrencyPlacement(CurrencyPlacement currencyPlacement) {
+        return new MoneyFormatter(rounding, decimalSeparator, groupingSeparator, currencyPlacement);
+    }
+
+    public String format(Money<?> money) {
+        return formatTo(money, new StringBuilder(24)).toString();
+    }
+
+    /**
+     * @throws UncheckedIOException if {@code out} throws an {@link IOException}
+     */
+    public <A extends Appendable> A formatTo(Money<?> money, A out) {
+        Objects.requireNonNull(money, "money");
+        Objects.requireNonNull(out, "out");
+        int scale = fractionDigits(money);
+        try {
+            if (currencyPlacement == CurrencyPlacement.PREFIX) {
+                out.append(code(money)).append(' ');
+            }
+            if (money.amount().fitsUnscaledLong(scale)) {
+                long unscaled = money.amount().toUnscaledLong(scale, rounding);
+                if (unscaled < 0) {
+                    out.append('-');
+                }
+                long magnitude = Math.abs(unscaled);
+                int width = width(magnitude, scale);
+                long power = power(width - 1);
+                for (int position = width - 1; position >= 0; position--, power /= 10) {
+                    out.append((char) ('0' + magnitude / power % 10));
+                    if (position == scale && scale > 0) {
+                        out.append(decimalSeparator);
+                    } else if (groups(position, scale)) {
+                        out.append(groupingSeparator);
+                    }
+                }
+            } else {
+                BigInteger wide = money.amount().toUnscaled(scale, rounding);
+                if (wide.signum() < 0) {
+                    out.append('-');
+                }
+                String digits = padded(wide.abs().toString(), scale);
+                for (int i = 0, position = digits.length() - 1; i < digits.length(); i++, position--) {
+                    out.append(digits.charAt(i));
+                    if (position == scale && scale > 0) {
+                        out.append(decimalSeparator);
+                    } else if (groups(position, scale)) {
+                        out.append(groupingSeparator);
+                    }
+                }
+            }
+            if (currencyPlacement == CurrencyPlacement.SUFFIX) {
+                out.append(' ').append(code(money));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out;
+    }
+
+    /**
+     * Writes ISO-8859-1 bytes at the buffer's position, advancing it.
+     *
+     * @throws java.nio.BufferOverflowException if the buffer has insufficient space remaining
+     */
+    public ByteBuffer formatTo(Money<?> money, ByteBuffer out) {
+        Objects.requireNonNull(money, "money");
+        Objects.requireNonNull(out, "out");
+        int scale = fractionDigits(money);
+        if (currencyPlacement == CurrencyPlacement.PREFIX) {
+            putCode(out, money);
+            out.put((byte) ' ');
+        }
+        if (money.amount().fitsUnscaledLong(scale)) {
+            long unscaled = money.amount().toUnscaledLong(scale, rounding);
+            if (unscaled < 0) {
+                out.put((byte) '-');
+            }
+            long magnitude = Math.abs(unscaled);
+            int width = width(magnitude, scale);
+            long power = power(width - 1);
+            for (int position = width - 1; position >= 0; position--, power /= 10) {
+                out.put((byte) ('0' + magnitude / power % 10));
+                if (position == scale && scale > 0) {
+                    out.put((byte) decimalSeparator);
+                } else if (groups(position, scale)) {
+                    out.put((byte) groupingSeparator);
+                }
+            }
+        } else {
+            digitsOnly().formatTo(money, new ByteBufferAppendable(out));
+        }
+        if (currencyPlacement == CurrencyPlacement.SUFFIX) {
+            out.put((byte) ' ');
+            putCode(out, money);
+        }
+        return out;
+    }
+
+    // number of digits written for a magnitude: at least one integer digit and exactly scale fraction digits
+    private static int width(long magnitude, int scale) {
+        int digits = 1;
+        for (long p = 10; digits < 19 && magnitude >= p; p *= 10) {
+            digits++;
+        }
+        return Math.max(digits, scale + 1);
+    }
+
+    private static long power(int exponent) {
+        long power = 1;
+        for (int i = 0; i < exponent; i++) {
+            power *= 10;
+        }
+        return power;
+    }
+
+    // a grouping separator follows every integer digit whose distance from the decimal point is a positive multiple of 3
+    private boolean groups(int position, int scale) {
+        return groupingSeparator != NO_GROUPING && position > scale && (position - scale) % 3 == 0;
+    }
+
+    private static String padded(String digits, int scale) {
+        return digits.length() > scale ? digits : "0".repeat(scale + 1 - digits.length()) + digits;
+    }
+
+    private static int fractionDigits(Money<?> money) {
+        int digits = money.fractionDigits();
+        if (digits < 0) {
+            throw new ArithmeticException("negative scale");
+        }
+        return digits;
+    }
+
+    private static String code(Money<?> money) {
+        return money.currency().currency().getCurrencyCode();
+    }
+
+    private static void putCode(ByteBuffer out, Money<?> money) {
+        String code = code(money);
+        for (int i = 0; i < code.length(); i++) {
+            out.put((byte) code.charAt(i));
+        }
+    }
+
+    private MoneyFormatter digitsOnly() {
+        return currencyPlacement == CurrencyPlacement.NONE ? this : withCurrencyPlacement(CurrencyPlacement.NONE);
+    }
+
+    private record ByteBufferAppendable(ByteBuffer buffer) implements Appendable {
+
+        @Override
+        public Appendable append(CharSequence csq) {
+            return append(csq, 0, csq.length());
+        }
+
+        @Override
+        public Appendable append(CharSequence csq, int start, int end) {
+            for (int i = start; i < end; i++) {
+                append(csq.charAt(i));
+            }
+            return this;
+        }
+
+        @Override
+        public Appendable append(char c) {
+            buffer.put((byte) c);
+            return this;
+        }
+    }
+}
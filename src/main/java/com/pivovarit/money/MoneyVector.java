@@ -0,0 +1,362 @@
+package com.pivovarit.money;
+
+import com.pivovarit.money.currency.TypedCurrency;
+import com.pivovarit.money.math.BigRational;
+import com.pivovarit.money.math.RationalAccumulator;
+import com.pivovarit.money.math.RationalMultiplier;
+import com.pivovarit.money.math.Rounding;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Objects;
+import java.util.Optional;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Growable, columnar batch of {@link Money} amounts in one currency: whole minor units are stored in a {@code long[]}
+ * column, and the rare amounts that are not a whole number of minor units or are too large for the column are kept
+ * exactly in a side store (their column slot holds {@code 0}). The currency is held once for the whole batch.
+ * <p>
+ * Bulk operations have the same exact semantics as the corresponding {@code Money} operations. They run over the
+ * column with {@code jdk.incubator.vector} kernels when that module is resolved at startup
+ * ({@code --add-modules jdk.incubator.vector}) and with scalar loops otherwise; overflow is detected, never wrapped,
+ * and falls back to exact arithmetic. Not thread-safe.
+ */
+public final class MoneyVector<T extends TypedCurrency> {
+
+    private static final int MAX_FRACTION_DIGITS = 18;
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final T currency;
+    private final int scale;
+    private final LongKernels kernels;
+
+    private long[] minorUnits;
+    private @Nullable BigRational @Nullable [] exact;
+    private int exactCount;
+    private int size;
+
+    private MoneyVector(T currency, LongKernels kernels, long[] minorUnits, int size) {
+        this.currency = currency;
+        this.scale = minorUnitDigits(currency);
+        this.kernels = kernels;
+        this.minorUnits = minorUnits;
+        this.size = size;
+    }
+
+    public static <T extends TypedCurrency> MoneyVector<T> of(T currency) {
+        return of(currency, LongKernels.INSTANCE);
+    }
+
+    /**
+     * A vector of {@code minorUnits.length} amounts; the array is copied.
+     */
+    public static <T extends TypedCurrency> MoneyVector<T> ofMinor(T currency, long... minorUnits) {
+        Objects.requireNonNull(currency, "currency");
+        Objects.requireNonNull(minorUnits, "minorUnits");
+        return new MoneyVector<>(currency, LongKernels.INSTANCE, minorUnits.clone(), minorUnits.length);
+    }
+
+    static <T extends TypedCurrency> MoneyVector<T> of(T currency, LongKernels kernels) {
+        Objects.requireNonNull(currency, "currency");
+        return new MoneyVector<>(currency, kernels, new long[INITIAL_CAPACITY], 0);
+    }
+
+    public T currency() {
+        return currency;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public MoneyVector<T> append(Money<T> amount) {
+        Objects.requireNonNull(amount, "amount");
+        requireSameCurrency(amount.currency());
+        ensureCapacity(size + 1);
+        store(size++, amount.amount());
+        return this;
+    }
+
+    public MoneyVector<T> append(FastMoney<T> amount) {
+        Objects.requireNonNull(amount, "amount");
+        requireSameCurrency(amount.currency());
+        return appendMinor(amount.minorUnits());
+    }
+
+    public MoneyVector<T> appendMinor(long minorUnits) {
+        ensureCapacity(size + 1);
+        this.minorUnits[size++] = minorUnits;
+        return this;
+    }
+
+    public Money<T> get(int index) {
+        Objects.checkIndex(index, size);
+        BigRational side = side(index);
+        return side != null ? Money.from(side, currency) : Money.from(BigDecimal.valueOf(minorUnits[index], scale), currency);
+    }
+
+    public Money<T> sum() {
+        long[] out = new long[1];
+        RationalAccumulator sum = new RationalAccumulator();
+        if (kernels.sum(minorUnits, size, out)) {
+            sum.add(BigRational.of(BigDecimal.valueOf(out[0], scale)));
+        } else {
+            BigInteger wide = BigInteger.ZERO;
+            for (int i = 0; i < size; i++) {
+                wide = wide.add(BigInteger.valueOf(minorUnits[i]));
+            }
+            sum.add(BigRational.of(new BigDecimal(wide, scale)));
+        }
+        forEachSide((i, value) -> sum.add(value));
+        return Money.from(sum.result(), currency);
+    }
+
+    public MoneyVector<T> negate() {
+        MoneyVector<T> result = new MoneyVector<>(currency, kernels, new long[size], size);
+        if (!kernels.negate(minorUnits, size, result.minorUnits)) {
+            // only the Long.MIN_VALUE lanes were not negated
+            for (int i = 0; i < size; i++) {
+                if (minorUnits[i] == Long.MIN_VALUE) {
+                    result.side(i, minor(Long.MIN_VALUE).negate());
+                }
+            }
+        }
+        forEachSide((i, value) -> result.side(i, value.negate()));
+        return result;
+    }
+
+    public MoneyVector<T> multiply(long factor) {
+        MoneyVector<T> result = new MoneyVector<>(currency, kernels, new long[size], size);
+        if (!kernels.multiply(minorUnits, size, factor, result.minorUnits)) {
+            for (int i = 0; i < size; i++) {
+                long hi = Math.multiplyHigh(minorUnits[i], factor);
+                long lo = minorUnits[i] * factor;
+                if (hi == (lo >> 63)) {
+                    result.minorUnits[i] = lo;
+                } else {
+                    result.side(i, minor(minorUnits[i]).multiply(BigRational.of(factor)));
+                }
+            }
+        }
+        forEachSide((i, value) -> result.side(i, value.multiply(BigRational.of(factor))));
+        return result;
+    }
+
+    /**
+     * Integer factors that fit a {@code long} stay on the column. For other factors whose terms {@code p / q} fit a
+     * {@code long}, the column is multiplied by {@code p} with the kernels and each product divided by {@code q};
+     * products that are not whole minor units, and every product of a wider factor, are computed exactly and move to
+     * the side store.
+     */
+    public MoneyVector<T> multiply(BigRational factor) {
+        Objects.requireNonNull(factor, "factor");
+        BigInteger p = factor.numerator();
+        BigInteger q = factor.denominator();
+        if (q.equals(BigInteger.ONE) && p.bitLength() < Long.SIZE) {
+            return multiply(p.longValue());
+        }
+        var multiplier = RationalMultiplier.of(factor);
+        MoneyVector<T> result = new MoneyVector<>(currency, kernels, new long[size], size);
+        if (p.bitLength() < Long.SIZE && q.bitLength() < Long.SIZE && kernels.multiply(minorUnits, size, p.longValue(), result.minorUnits)) {
+            long divisor = q.longValue();
+            for (int i = 0; i < size; i++) {
+                long product = result.minorUnits[i];
+                if (product % divisor == 0) {
+                    result.minorUnits[i] = product / divisor;
+                } else {
+                    result.side(i, multiplier.multiply(minor(minorUnits[i])));
+                }
+            }
+        } else {
+            for (int i = 0; i < size; i++) {
+                result.store(i, multiplier.multiply(minor(minorUnits[i])));
+            }
+        }
+        // side-stored slots hold 0 in the column and were stored as 0 above
+        forEachSide((i, value) -> result.side(i, multiplier.multiply(value)));
+        return result;
+    }
+
+    /**
+     * The positions of the amounts strictly greater than {@code threshold}.
+     */
+    public BitSet greaterThan(Money<T> threshold) {
+        Objects.requireNonNull(threshold, "threshold");
+        requireSameCurrency(threshold.currency());
+        // a whole number of minor units is above t exactly when it is above floor(t)
+        long[] words = new long[(size + 63) >>> 6];
+        BigRational t = threshold.amount();
+        if (t.fitsUnscaledLong(scale)) {
+            kernels.greaterThan(minorUnits, size, t.toUnscaledLong(scale, Rounding.FLOOR), words);
+        } else {
+            BigInteger floor = t.toUnscaled(scale, Rounding.FLOOR);
+            if (floor.bitLength() < Long.SIZE) {
+                kernels.greaterThan(minorUnits, size, floor.longValue(), words);
+            } else if (t.signum() < 0) {
+                // beyond the column's range: either every whole amount is above it or none is
+                Arrays.fill(words, -1L);
+            }
+        }
+        return fixUp(BitSet.valueOf(words), t, 1);
+    }
+
+    /**
+     * The positions of the amounts strictly less than {@code threshold}.
+     */
+    public BitSet lessThan(Money<T> threshold) {
+        Objects.requireNonNull(threshold, "threshold");
+        requireSameCurrency(threshold.currency());
+        long[] words = new long[(size + 63) >>> 6];
+        BigRational t = threshold.amount();
+        if (t.fitsUnscaledLong(scale)) {
+            kernels.lessThan(minorUnits, size, t.toUnscaledLong(scale, Rounding.CEIL), words);
+        } else {
+            BigInteger ceil = t.toUnscaled(scale, Rounding.CEIL);
+            if (ceil.bitLength() < Long.SIZE) {
+                kernels.lessThan(minorUnits, size, ceil.longValue(), words);
+            } else if (t.signum() > 0) {
+                Arrays.fill(words, -1L);
+            }
+        }
+        return fixUp(BitSet.valueOf(words), t, -1);
+    }
+
+    /**
+     * The amounts at the positions set in {@code positions}, in order; positions beyond {@link #size()} are ignored.
+     */
+    public MoneyVector<T> filter(BitSet positions) {
+        Objects.requireNonNull(positions, "positions");
+        long[] selected = new long[Math.min(size, positions.cardinality())];
+        MoneyVector<T> result = new MoneyVector<>(currency, kernels, selected, 0);
+        for (int i = positions.nextSetBit(0); i >= 0 && i < size; i = positions.nextSetBit(i + 1)) {
+            int j = result.size++;
+            BigRational side = side(i);
+            if (side != null) {
+                result.side(j, side);
+            } else {
+                selected[j] = minorUnits[i];
+            }
+        }
+        return result;
+    }
+
+    public Optional<Money<T>> min() {
+        return extreme(-1);
+    }
+
+    public Optional<Money<T>> max() {
+        return extreme(1);
+    }
+
+    private Optional<Money<T>> extreme(int direction) {
+        if (size == 0) {
+            return Optional.empty();
+        } else if (exactCount == 0) {
+            long minor = direction < 0 ? kernels.min(minorUnits, size) : kernels.max(minorUnits, size);
+            return Optional.of(Money.from(BigDecimal.valueOf(minor, scale), currency));
+        }
+        int best = 0;
+        BigRational bestValue = value(0);
+        for (int i = 1; i < size; i++) {
+            BigRational value = value(i);
+            if (Integer.signum(value.compareTo(bestValue)) == direction) {
+                best = i;
+                bestValue = value;
+            }
+        }
+        return Optional.of(get(best));
+    }
+
+    // the kernels see 0 in the slots of side-stored amounts: their bits are recomputed exactly
+    private BitSet fixUp(BitSet positions, BigRational threshold, int direction) {
+        positions.clear(size, Math.max(size, positions.length()));
+        forEachSide((i, value) -> positions.set(i, Integer.signum(value.compareTo(threshold)) == direction));
+        return positions;
+    }
+
+    // whole minor units well within the long range go to the column, anything else is kept exactly
+    private void store(int index, BigRational amount) {
+        if (amount.fitsUnscaledLong(scale) && amount.isExactAt(scale)) {
+            minorUnits[index] = amount.toUnscaledLong(scale, Rounding.FLOOR);
+        } else {
+            side(index, amount);
+        }
+    }
+
+    private BigRational value(int index) {
+        BigRational side = side(index);
+        return side != null ? side : minor(minorUnits[index]);
+    }
+
+    private BigRational minor(long minorUnits) {
+        return BigRational.of(BigDecimal.valueOf(minorUnits, scale));
+    }
+
+    private @Nullable BigRational side(int index) {
+        return exact != null ? exact[index] : null;
+    }
+
+    private void side(int index, BigRational value) {
+        if (exact == null) {
+            exact = new BigRational[minorUnits.length];
+        }
+        if (exact[index] == null) {
+            exactCount++;
+        }
+        exact[index] = value;
+        minorUnits[index] = 0;
+    }
+
+    private void forEachSide(SideConsumer action) {
+        if (exact != null) {
+            for (int i = 0; i < size; i++) {
+                BigRational value = exact[i];
+                if (value != null) {
+                    action.accept(i, value);
+                }
+            }
+        }
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > minorUnits.length) {
+            int grown = Math.max(capacity, minorUnits.length + (minorUnits.length >> 1) + 1);
+            minorUnits = Arrays.copyOf(minorUnits, grown);
+            if (exact != null) {
+                exact = Arrays.copyOf(exact, grown);
+            }
+        }
+    }
+
+    private void requireSameCurrency(TypedCurrency other) {
+        if (!currency.currency().equals(other.currency())) {
+            var msg = "Currency mismatch: %s vs %s".formatted(currency.currency().getCurrencyCode(), other.currency()
+              .getCurrencyCode());
+            throw new IllegalArgumentException(msg);
+        }
+    }
+
+    private static int minorUnitDigits(TypedCurrency currency) {
+        int digits = MonetaryContext.of(currency).fractionDigits();
+        if (digits < 0 || digits > MAX_FRACTION_DIGITS) {
+            throw new IllegalArgumentException("currency has no minor units: " + currency.currency().getCurrencyCode());
+        }
+        return digits;
+    }
+
+    @FunctionalInterface
+    private interface SideConsumer {
+        void accept(int index, BigRational value);
+    }
+
+    @Override
+    public String toString() {
+        return "MoneyVector[" + currency.currency().getCurrencyCode() + ", size=" + size + "]";
+    }
+}
@@ -0,0 +1,82 @@
+package com.pivovarit.money;
+
+final class ScalarLongKernels implements LongKernels {
+
+    static final ScalarLongKernels INSTANCE = new ScalarLongKernels();
+
+    private ScalarLongKernels() {
+    }
+
+    @Override
+    public boolean sum(long[] a, int n, long[] out) {
+        long sum = 0;
+        long overflow = 0;
+        for (int i = 0; i < n; i++) {
+            long s = sum + a[i];
+            // Math.addExact without the branch: the sign flips only if both operands disagree with the result
+            overflow |= (sum ^ s) & (a[i] ^ s);
+            sum = s;
+        }
+        out[0] = sum;
+        return overflow >= 0;
+    }
+
+    @Override
+    public boolean negate(long[] a, int n, long[] dst) {
+        boolean exact = true;
+        for (int i = 0; i < n; i++) {
+            exact &= a[i] != Long.MIN_VALUE;
+            dst[i] = -a[i];
+        }
+        return exact;
+    }
+
+    @Override
+    public boolean multiply(long[] a, int n, long factor, long[] dst) {
+        for (int i = 0; i < n; i++) {
+            long hi = Math.multiplyHigh(a[i], factor);
+            long lo = a[i] * factor;
+            if (hi != (lo >> 63)) {
+                return false;
+            }
+            dst[i] = lo;
+        }
+        return true;
+    }
+
+    @Override
+    public void greaterThan(long[] a, int n, long threshold, long[] words) {
+        for (int i = 0; i < n; i++) {
+            if (a[i] > threshold) {
+                words[i >>> 6] |= 1L << i;
+            }
+        }
+    }
+
+    @Override
+    public void lessThan(long[] a, int n, long threshold, long[] words) {
+        for (int i = 0; i < n; i++) {
+            if (a[i] < threshold) {
+                words[i >>> 6] |= 1L << i;
+            }
+        }
+    }
+
+    @Override
+    public long min(long[] a, int n) {
+        long min = Long.MAX_VALUE;
+        for (int i = 0; i < n; i++) {
+            min = Math.min(min, a[i]);
+        }
+        return min;
+    }
+
+    @Override
+    public long max(long[] a, int n) {
+        long max = Long.MIN_VALUE;
+        for (int i = 0; i < n; i++) {
+            max = Math.max(max, a[i]);
+        }
+        return max;
+    }
+}
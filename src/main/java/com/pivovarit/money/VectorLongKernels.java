@@ -0,0 +1,158 @@
+package com.pivovarit.money;
+
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * {@link LongKernels} on {@code jdk.incubator.vector}, one {@link LongVector#SPECIES_PREFERRED} register at a time, with
+ * scalar tails. Lane counts are powers of two no wider than 64, so a comparison mask never straddles two bitset words.
+ */
+final class VectorLongKernels implements LongKernels {
+
+    private static final VectorSpecies<Long> SPECIES = LongVector.SPECIES_PREFERRED;
+
+    @Override
+    public boolean sum(long[] a, int n, long[] out) {
+        int bound = SPECIES.loopBound(n);
+        LongVector sums = LongVector.zero(SPECIES);
+        LongVector overflow = LongVector.zero(SPECIES);
+        int i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            LongVector v = LongVector.fromArray(SPECIES, a, i);
+            LongVector s = sums.add(v);
+            overflow = overflow.or(sums.lanewise(VectorOperators.XOR, s).and(v.lanewise(VectorOperators.XOR, s)));
+            sums = s;
+        }
+        if (overflow.reduceLanes(VectorOperators.OR) < 0) {
+            return false;
+        }
+        // lane sums are exact; combining them with the tail must be too
+        long sum = 0;
+        try {
+            for (int lane = 0; lane < SPECIES.length(); lane++) {
+                sum = Math.addExact(sum, sums.lane(lane));
+            }
+            for (; i < n; i++) {
+                sum = Math.addExact(sum, a[i]);
+            }
+        } catch (ArithmeticException e) {
+            return false;
+        }
+        out[0] = sum;
+        return true;
+    }
+
+    @Override
+    public boolean negate(long[] a, int n, long[] dst) {
+        int bound = SPECIES.loopBound(n);
+        boolean exact = true;
+        int i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            LongVector v = LongVector.fromArray(SPECIES, a, i);
+            exact &= !v.eq(Long.MIN_VALUE).anyTrue();
+            v.neg().intoArray(dst, i);
+        }
+        for (; i < n; i++) {
+            exact &= a[i] != Long.MIN_VALUE;
+            dst[i] = -a[i];
+        }
+        return exact;
+    }
+
+    @Override
+    public boolean multiply(long[] a, int n, long factor, long[] dst) {
+        if (factor == Long.MIN_VALUE) {
+            return ScalarLongKernels.INSTANCE.multiply(a, n, factor, dst);
+        }
+        // |a * factor| <= Long.MAX_VALUE; lanes beyond it (or exactly at Long.MIN_VALUE) are settled one by one
+        long limit = factor == 0 ? Long.MAX_VALUE : Long.MAX_VALUE / Math.abs(factor);
+        int bound = SPECIES.loopBound(n);
+        int i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            LongVector v = LongVector.fromArray(SPECIES, a, i);
+            VectorMask<Long> outside = v.compare(VectorOperators.GT, limit).or(v.compare(VectorOperators.LT, -limit));
+            if (outside.anyTrue()) {
+                if (!multiplyExact(a, i, i + SPECIES.length(), factor, dst)) {
+                    return false;
+                }
+            } else {
+                v.mul(factor).intoArray(dst, i);
+            }
+        }
+        return multiplyExact(a, i, n, factor, dst);
+    }
+
+    @Override
+    public void greaterThan(long[] a, int n, long threshold, long[] words) {
+        int bound = SPECIES.loopBound(n);
+        int i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            long bits = LongVector.fromArray(SPECIES, a, i).compare(VectorOperators.GT, threshold).toLong();
+            words[i >>> 6] |= bits << i;
+        }
+        for (; i < n; i++) {
+            if (a[i] > threshold) {
+                words[i >>> 6] |= 1L << i;
+            }
+        }
+    }
+
+    @Override
+    public void lessThan(long[] a, int n, long threshold, long[] words) {
+        int bound = SPECIES.loopBound(n);
+        int i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            long bits = LongVector.fromArray(SPECIES, a, i).compare(VectorOperators.LT, threshold).toLong();
+            words[i >>> 6] |= bits << i;
+        }
+        for (; i < n; i++) {
+            if (a[i] < threshold) {
+                words[i >>> 6] |= 1L << i;
+            }
+        }
+    }
+
+    @Override
+    public long min(long[] a, int n) {
+        int bound = SPECIES.loopBound(n);
+        LongVector mins = LongVector.broadcast(SPECIES, Long.MAX_VALUE);
+        int i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            mins = mins.min(LongVector.fromArray(SPECIES, a, i));
+        }
+        long min = mins.reduceLanes(VectorOperators.MIN);
+        for (; i < n; i++) {
+            min = Math.min(min, a[i]);
+        }
+        return min;
+    }
+
+    @Override
+    public long max(long[] a, int n) {
+        int bound = SPECIES.loopBound(n);
+        LongVector maxs = LongVector.broadcast(SPECIES, Long.MIN_VALUE);
+        int i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            maxs = maxs.max(LongVector.fromArray(SPECIES, a, i));
+        }
+        long max = maxs.reduceLanes(VectorOperators.MAX);
+        for (; i < n; i++) {
+            max = Math.max(max, a[i]);
+        }
+        return max;
+    }
+
+    private static boolean multiplyExact(long[] a, int from, int to, long factor, long[] dst) {
+        for (int i = from; i < to; i++) {
+            long hi = Math.multiplyHigh(a[i], factor);
+            long lo = a[i] * factor;
+            if (hi != (lo >> 63)) {
+                return false;
+            }
+            dst[i] = lo;
+        }
+        return true;
+    }
+}
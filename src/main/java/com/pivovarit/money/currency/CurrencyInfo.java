@@ -0,0 +1,22 @@
+package com.pivovarit.money.currency;
+
+import java.util.Objects;
+
+/**
+ * Metadata of a registered currency, read once from {@link java.util.Currency}.
+ *
+ * @param fractionDigits the default fraction digits, {@code -1} for currencies without minor units (e.g. {@code XAU})
+ * @see CurrencyRegistry
+ */
+public record CurrencyInfo(int id, TypedCurrency currency, String code, int numericCode, int fractionDigits) {
+
+    public CurrencyInfo {
+        Objects.requireNonNull(currency, "currency");
+        Objects.requireNonNull(code, "code");
+    }
+
+    static CurrencyInfo of(int id, TypedCurrency currency) {
+        var jdk = currency.currency();
+        return new CurrencyInfo(id, currency, jdk.getCurrencyCode(), jdk.getNumericCode(), jdk.getDefaultFractionDigits());
+    }
+}
@@ -0,0 +1,123 @@
+package com.pivovarit.money.currency;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Currency;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The single {@link TypedCurrency} instance of every ISO 4217 currency known to the JDK, built once at startup.
+ * <p>
+ * Each currency has a dense id in {@code [0, size())}: the built-in currencies come first, in the order of
+ * {@link TypedCurrency}'s constants, followed by all other currencies in code order. Ids are stable for the lifetime of
+ * the JVM (not across JDK versions with different currency data) and are meant to index arrays. Code lookups index a
+ * table by the three letters of the code, without hashing.
+ */
+public final class CurrencyRegistry {
+
+    private static final int LETTERS = 26;
+    private static final short UNKNOWN = -1;
+
+    private static final TypedCurrency[] CURRENCIES;
+    private static final CurrencyInfo[] INFO;
+    private static final short[] IDS_BY_CODE = new short[LETTERS * LETTERS * LETTERS];
+
+    static {
+        List<TypedCurrency> builtIns = List.of(
+          TypedCurrency.EUR, TypedCurrency.USD, TypedCurrency.CHF, TypedCurrency.GBP, TypedCurrency.PLN,
+          TypedCurrency.CAD, TypedCurrency.CZK, TypedCurrency.HKD, TypedCurrency.HUF, TypedCurrency.ILS);
+        List<Currency> others = Currency.getAvailableCurrencies().stream()
+          .filter(currency -> builtIns.stream().noneMatch(builtIn -> builtIn.currency() == currency))
+          .sorted(Comparator.comparing(Currency::getCurrencyCode))
+          .toList();
+
+        CURRENCIES = new TypedCurrency[builtIns.size() + others.size()];
+        INFO = new CurrencyInfo[CURRENCIES.length];
+        Arrays.fill(IDS_BY_CODE, UNKNOWN);
+        for (int id = 0; id < CURRENCIES.length; id++) {
+            TypedCurrency currency = id < builtIns.size() ? builtIns.get(id) : new TypedCurrency.ISOCurrency(others.get(id - builtIns.size()));
+            CURRENCIES[id] = currency;
+            INFO[id] = CurrencyInfo.of(id, currency);
+            IDS_BY_CODE[index(currency.currency().getCurrencyCode())] = (short) id;
+        }
+    }
+
+    private CurrencyRegistry() {
+    }
+
+    /**
+     * @throws IllegalArgumentException if {@code code} is not an ISO 4217 code known to the JDK
+     */
+    public static TypedCurrency of(String code) {
+        Objects.requireNonNull(code, "code");
+        int index = index(code);
+        int id = index < 0 ? UNKNOWN : IDS_BY_CODE[index];
+        if (id == UNKNOWN) {
+            // Currency's own exception for malformed and unknown codes
+            return CURRENCIES[id(Currency.getInstance(code))];
+        }
+        return CURRENCIES[id];
+    }
+
+    public static TypedCurrency of(Currency currency) {
+        Objects.requireNonNull(currency, "currency");
+        return CURRENCIES[id(currency)];
+    }
+
+    public static TypedCurrency of(int id) {
+        return CURRENCIES[Objects.checkIndex(id, CURRENCIES.length)];
+    }
+
+    public static int id(TypedCurrency currency) {
+        Objects.requireNonNull(currency, "currency");
+        return id(currency.currency());
+    }
+
+    public static int id(Currency currency) {
+        int index = index(currency.getCurrencyCode());
+        int id = index < 0 ? UNKNOWN : IDS_BY_CODE[index];
+        if (id == UNKNOWN) {
+            throw new IllegalArgumentException("unregistered currency: " + currency.getCurrencyCode());
+        }
+        return id;
+    }
+
+    public static CurrencyInfo info(TypedCurrency currency) {
+        return INFO[id(currency)];
+    }
+
+    public static CurrencyInfo info(int id) {
+        return INFO[Objects.checkIndex(id, INFO.length)];
+    }
+
+    /**
+     * The number of registered currencies; ids are in {@code [0, size())}.
+     */
+    public static int size() {
+        return CURRENCIES.length;
+    }
+
+    /**
+     * All registered currencies, indexed by id.
+     */
+    public static List<TypedCurrency> currencies() {
+        return List.of(CURRENCIES);
+    }
+
+    // AAA..ZZZ as a base-26 number, -1 for anything else
+    private static int index(String code) {
+        if (code.length() != 3) {
+            return -1;
+        }
+        int index = 0;
+        for (int i = 0; i < 3; i++) {
+            int letter = code.charAt(i) - 'A';
+            if (letter < 0 || letter >= LETTERS) {
+                return -1;
+            }
+            index = index * LETTERS + letter;
+        }
+        return index;
+    }
+}
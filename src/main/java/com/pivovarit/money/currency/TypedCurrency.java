@@ -18,20 +18,14 @@ public interface TypedCurrency {
 
     Currency currency();
 
+    /**
+     * The interned instance for {@code code}: the built-in type for supported currencies, a shared
+     * {@link ISOCurrency} for any other ISO 4217 currency.
+     *
+     * @see CurrencyRegistry
+     */
     static TypedCurrency from(String code) {
-        return switch (code) {
-            case "EUR" -> EUR;
-            case "USD" -> USD;
-            case "CHF" -> CHF;
-            case "GBP" -> GBP;
-            case "PLN" -> PLN;
-            case "CAD" -> CAD;
-            case "CZK" -> CZK;
-            case "HKD" -> HKD;
-            case "HUF" -> HUF;
-            case "ILS" -> ILS;
-            default -> new ISOCurrency(Currency.getInstance(code));
-        };
+        return CurrencyRegistry.of(code);
     }
 
     static Set<TypedCurrency> supportedCurrencies() {
@@ -0,0 +1,18 @@
+package com.pivovarit.money.math;
+
+import java.util.Objects;
+
+/**
+ * A value computed with bounded precision, and the exact {@code error} that introduced: the exact result is
+ * {@code value + error}, in the units of the value's amount (like {@link Decimal#residual()}).
+ */
+public record Approximation<V>(V value, BigRational error) {
+    public Approximation {
+        Objects.requireNonNull(value, "value");
+        Objects.requireNonNull(error, "error");
+    }
+
+    public boolean isExact() {
+        return error.isZero();
+    }
+}
@@ -0,0 +1,358 @@
+package com.pivovarit.money.math;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * Parses ASCII decimal fields ({@code [+-]digits[.digits]}, optionally space-padded as in fixed-width files) straight
+ * from bytes, without decoding them into {@code String}s.
+ * <p>
+ * Fields of up to 17 digits are decoded eight digits at a time (SWAR) into a {@code long}; anything else, longer or
+ * malformed, falls back to the exact {@link BigRational#of(CharSequence, int, int)} scanner, which also produces its
+ * error messages. {@code parseScaled} returns the value in units of {@code 10^-scale} (e.g. minor units), and fails
+ * with {@link ArithmeticException} if that is not an exact {@code long}.
+ */
+public final class AsciiDecimalParser {
+
+    private static final VarHandle LONG_LE = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    // independent of the buffer's own byte order, which belongs to the caller
+    private static final VarHandle BUFFER_LONG_LE = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    // fast path result: magnitude in the low 57 bits (10^17 < 2^57), fraction digits in the next 5, sign in bit 62
+    private static final long INVALID = -1;
+    private static final int FAST_DIGITS = 17;
+    private static final int SCALE_SHIFT = 57;
+    private static final long MAGNITUDE_MASK = (1L << SCALE_SHIFT) - 1;
+    private static final long NEGATIVE = 1L << 62;
+
+    private AsciiDecimalParser() {
+    }
+
+    public static BigRational parse(byte[] src, int offset, int length) {
+        Objects.requireNonNull(src, "src");
+        Objects.checkFromIndexSize(offset, length, src.length);
+        long packed = scan(src, offset, length);
+        return packed == INVALID
+          ? BigRational.of(new AsciiChars(src, offset, length), 0, length)
+          : BigRational.ofUnscaled(unscaled(packed), fractionDigits(packed));
+    }
+
+    public static BigRational parse(ByteBuffer src, int offset, int length) {
+        Objects.requireNonNull(src, "src");
+        Objects.checkFromIndexSize(offset, length, src.limit());
+        if (src.hasArray()) {
+            return parse(src.array(), src.arrayOffset() + offset, length);
+        }
+        long packed = scan(src, offset, length);
+        return packed == INVALID
+          ? BigRational.of(new AsciiBufferChars(src, offset, length), 0, length)
+          : BigRational.ofUnscaled(unscaled(packed), fractionDigits(packed));
+    }
+
+    public static long parseScaled(byte[] src, int offset, int length, int scale) {
+        Objects.requireNonNull(src, "src");
+        Objects.checkFromIndexSize(offset, length, src.length);
+        checkScale(scale);
+        long packed = scan(src, offset, length);
+        return packed == INVALID
+          ? rescale(BigRational.of(new AsciiChars(src, offset, length), 0, length), scale)
+          : rescale(unscaled(packed), fractionDigits(packed), scale);
+    }
+
+    public static long parseScaled(ByteBuffer src, int offset, int length, int scale) {
+        Objects.requireNonNull(src, "src");
+        Objects.checkFromIndexSize(offset, length, src.limit());
+        if (src.hasArray()) {
+            return parseScaled(src.array(), src.arrayOffset() + offset, length, scale);
+        }
+        checkScale(scale);
+        long packed = scan(src, offset, length);
+        return packed == INVALID
+          ? rescale(BigRational.of(new AsciiBufferChars(src, offset, length), 0, length), scale)
+          : rescale(unscaled(packed), fractionDigits(packed), scale);
+    }
+
+    /**
+     * Parses the fields {@code [offsets[i], offsets[i] + lengths[i])} of {@code src} into {@code out[i]}.
+     */
+    public static void parse(byte[] src, int[] offsets, int[] lengths, BigRational[] out) {
+        Objects.requireNonNull(out, "out");
+        checkBatch(offsets, lengths, out.length);
+        for (int i = 0; i < offsets.length; i++) {
+            out[i] = parse(src, offsets[i], lengths[i]);
+        }
+    }
+
+    /**
+     * Parses the fields {@code [offsets[i], offsets[i] + lengths[i])} of {@code src} into {@code out[i]}, in units of
+     * {@code 10^-scale}.
+     */
+    public static void parseScaled(byte[] src, int[] offsets, int[] lengths, int scale, long[] out) {
+        Objects.requireNonNull(out, "out");
+        checkBatch(offsets, lengths, out.length);
+        for (int i = 0; i < offsets.length; i++) {
+            out[i] = parseScaled(src, offsets[i], lengths[i], scale);
+        }
+    }
+
+    public static void parseScaled(ByteBuffer src, int[] offsets, int[] lengths, int scale, long[] out) {
+        Objects.requireNonNull(src, "src");
+        Objects.requireNonNull(out, "out");
+        checkBatch(offsets, lengths, out.length);
+        for (int i = 0; i < offsets.length; i++) {
+            out[i] = parseScaled(src, offsets[i], lengths[i], scale);
+        }
+    }
+
+    // the packed fast path result, or INVALID for anything the exact scanner has to handle
+    private static long scan(byte[] src, int offset, int length) {
+        int i = offset;
+        int end = offset + length;
+        while (i < end && src[i] == ' ') {
+            i++;
+        }
+        while (end > i && src[end - 1] == ' ') {
+            end--;
+        }
+        if (i == end) {
+            return INVALID;
+        }
+        boolean negative = src[i] == '-';
+        if (negative || src[i] == '+') {
+            i++;
+        }
+
+        long value = 0;
+        int digits = 0;
+        int integerStart = i;
+        while (end - i >= 8 && digits + 8 <= FAST_DIGITS) {
+            long chunk = (long) LONG_LE.get(src, i);
+            if (!isEightDigits(chunk)) {
+                break;
+            }
+            value = value * 100_000_000L + eightDigits(chunk);
+            digits += 8;
+            i += 8;
+        }
+        for (; i < end && isDigit(src[i]); i++) {
+            if (++digits > FAST_DIGITS) {
+                return INVALID;
+            }
+            value = value * 10 + (src[i] - '0');
+        }
+        if (i == integerStart) {
+            return INVALID;
+        }
+
+        int fractionDigits = 0;
+        if (i < end && src[i] == '.') {
+            int fractionStart = ++i;
+            while (end - i >= 8 && digits + 8 <= FAST_DIGITS) {
+                long chunk = (long) LONG_LE.get(src, i);
+                if (!isEightDigits(chunk)) {
+                    break;
+                }
+                value = value * 100_000_000L + eightDigits(chunk);
+                digits += 8;
+                i += 8;
+            }
+            for (; i < end && isDigit(src[i]); i++) {
+                if (++digits > FAST_DIGITS) {
+                    return INVALID;
+                }
+                value = value * 10 + (src[i] - '0');
+            }
+            fractionDigits = i - fractionStart;
+            if (fractionDigits == 0) {
+                return INVALID;
+            }
+        }
+        if (i != end) {
+            return INVALID;
+        }
+        return value | (long) fractionDigits << SCALE_SHIFT | (negative ? NEGATIVE : 0);
+    }
+
+    // scan(byte[], ...) over absolute reads of a buffer without an accessible array (e.g. a direct one), so that
+    // fields are never copied out of it
+    private static long scan(ByteBuffer src, int offset, int length) {
+        int i = offset;
+        int end = offset + length;
+        while (i < end && src.get(i) == ' ') {
+            i++;
+        }
+        while (end > i && src.get(end - 1) == ' ') {
+            end--;
+        }
+        if (i == end) {
+            return INVALID;
+        }
+        boolean negative = src.get(i) == '-';
+        if (negative || src.get(i) == '+') {
+            i++;
+        }
+
+        long value = 0;
+        int digits = 0;
+        int integerStart = i;
+        while (end - i >= 8 && digits + 8 <= FAST_DIGITS) {
+            long chunk = (long) BUFFER_LONG_LE.get(src, i);
+            if (!isEightDigits(chunk)) {
+                break;
+            }
+            value = value * 100_000_000L + eightDigits(chunk);
+            digits += 8;
+            i += 8;
+        }
+        for (; i < end && isDigit(src.get(i)); i++) {
+            if (++digits > FAST_DIGITS) {
+                return INVALID;
+            }
+            value = value * 10 + (src.get(i) - '0');
+        }
+        if (i == integerStart) {
+            return INVALID;
+        }
+
+        int fractionDigits = 0;
+        if (i < end && src.get(i) == '.') {
+            int fractionStart = ++i;
+            while (end - i >= 8 && digits + 8 <= FAST_DIGITS) {
+                long chunk = (long) BUFFER_LONG_LE.get(src, i);
+                if (!isEightDigits(chunk)) {
+                    break;
+                }
+                value = value * 100_000_000L + eightDigits(chunk);
+                digits += 8;
+                i += 8;
+            }
+            for (; i < end && isDigit(src.get(i)); i++) {
+                if (++digits > FAST_DIGITS) {
+                    return INVALID;
+                }
+                value = value * 10 + (src.get(i) - '0');
+            }
+            fractionDigits = i - fractionStart;
+            if (fractionDigits == 0) {
+                return INVALID;
+            }
+        }
+        if (i != end) {
+            return INVALID;
+        }
+        return value | (long) fractionDigits << SCALE_SHIFT | (negative ? NEGATIVE : 0);
+    }
+
+    // every byte in '0'..'9': no bits outside the low nibble beyond 0x30, and no nibble above 9 (adding 6 carries)
+    private static boolean isEightDigits(long chunk) {
+        return ((chunk & 0xF0F0F0F0F0F0F0F0L) | (((chunk + 0x0606060606060606L) & 0xF0F0F0F0F0F0F0F0L) >>> 4))
+          == 0x3333333333333333L;
+    }
+
+    // eight ASCII digits, the first (most significant) in the lowest byte: adjacent digits are combined into pairs,
+    // pairs into groups of four, and the two groups into the result
+    private static long eightDigits(long chunk) {
+        long value = (chunk & 0x0F0F0F0F0F0F0F0FL) * ((10 << 8) + 1) >>> 8;
+        value = (value & 0x00FF00FF00FF00FFL) * ((100 << 16) + 1) >>> 16;
+        return (value & 0x0000FFFF0000FFFFL) * ((10_000L << 32) + 1) >>> 32;
+    }
+
+    private static boolean isDigit(byte b) {
+        return b >= '0' && b <= '9';
+    }
+
+    private static long unscaled(long packed) {
+        long magnitude = packed & MAGNITUDE_MASK;
+        return (packed & NEGATIVE) != 0 ? -magnitude : magnitude;
+    }
+
+    private static int fractionDigits(long packed) {
+        return (int) (packed >>> SCALE_SHIFT) & 0x1F;
+    }
+
+    private static long rescale(long unscaled, int fractionDigits, int scale) {
+        if (fractionDigits <= scale) {
+            long p = PowersOfTen.longValue(scale - fractionDigits);
+            if (BigRational.overflows(unscaled, p)) {
+                throw new ArithmeticException("overflow: does not fit a long at scale " + scale);
+            }
+            return unscaled * p;
+        }
+        long p = PowersOfTen.longValue(fractionDigits - scale);
+        if (unscaled % p != 0) {
+            throw new ArithmeticException("rounding necessary: more than " + scale + " fraction digits");
+        }
+        return unscaled / p;
+    }
+
+    private static long rescale(BigRational value, int scale) {
+        BigRational scaled = value.multiply(BigRational.of(PowersOfTen.longValue(scale)));
+        if (!scaled.denominator().equals(BigInteger.ONE)) {
+            throw new ArithmeticException("rounding necessary: more than " + scale + " fraction digits");
+        }
+        return scaled.numerator().longValueExact();
+    }
+
+    private static void checkScale(int scale) {
+        if (scale < 0 || scale > PowersOfTen.MAX_LONG_EXPONENT) {
+            throw new IllegalArgumentException("scale must be in [0, " + PowersOfTen.MAX_LONG_EXPONENT + "]: " + scale);
+        }
+    }
+
+    private static void checkBatch(int[] offsets, int[] lengths, int outLength) {
+        Objects.requireNonNull(offsets, "offsets");
+        Objects.requireNonNull(lengths, "lengths");
+        if (offsets.length != lengths.length) {
+            throw new IllegalArgumentException("offsets and lengths differ in size: " + offsets.length + " vs " + lengths.length);
+        } else if (outLength < offsets.length) {
+            throw new IllegalArgumentException("output too small: " + outLength + " < " + offsets.length);
+        }
+    }
+
+    // Latin-1 view of a byte range for the exact scanner, only built on the slow path
+    private record AsciiChars(byte[] bytes, int offset, int length) implements CharSequence {
+
+        @Override
+        public char charAt(int index) {
+            return (char) (bytes[offset + Objects.checkIndex(index, length)] & 0xFF);
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            Objects.checkFromToIndex(start, end, length);
+            return new AsciiChars(bytes, offset + start, end - start);
+        }
+
+        @Override
+        public String toString() {
+            return new String(bytes, offset, length, StandardCharsets.ISO_8859_1);
+        }
+    }
+
+    // AsciiChars over absolute reads of a buffer
+    private record AsciiBufferChars(ByteBuffer buffer, int offset, int length) implements CharSequence {
+
+        @Override
+        public char charAt(int index) {
+            return (char) (buffer.get(offset + Objects.checkIndex(index, length)) & 0xFF);
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            Objects.checkFromToIndex(start, end, length);
+            return new AsciiBufferChars(buffer, offset + start, end - start);
+        }
+
+        @Override
+        public String toString() {
+            byte[] bytes = new byte[length];
+            buffer.get(offset, bytes);
+            return new String(bytes, StandardCharsets.ISO_8859_1);
+        }
+    }
+}
@@ -3,73 +3,241 @@ package com.pivovarit.money.math;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.math.MathContext;
-import java.math.RoundingMode;
 import java.util.Objects;
-import java.util.regex.Pattern;
+import java.util.Set;
+import org.jspecify.annotations.Nullable;
 
 // inspired by https://introcs.cs.princeton.edu/java/92symbolic/BigRational.java.html
-public record BigRational(BigInteger numerator, BigInteger denominator) implements Comparable<BigRational> {
+/**
+ * Exact rational number, always kept in lowest terms with a positive denominator.
+ * <p>
+ * Values whose numerator and denominator both fit in a {@code long} are stored as two primitives and handled with
+ * overflow-checked {@code long} arithmetic; everything else is backed by {@link BigInteger}s. The representation is
+ * canonical (a value is stored as {@code long}s if and only if it fits), so it is not observable through the API.
+ * <p>
+ * Reduction can be deferred for long arithmetic chains with {@link #deferReduction()}: results involving a deferred
+ * operand skip the gcd until they are observed ({@code equals}, {@code hashCode}, {@code compareTo}, {@code toString},
+ * {@code numerator()}, {@code denominator()}) or grow beyond {@value #MAX_UNREDUCED_BIT_LENGTH} bits.
+ * <p>
+ * Money-shaped values (from {@link BigDecimal}s, decimal strings, or {@code of(n, 10^k)}) are kept as
+ * {@code unscaled / 10^k}: adding, subtracting, multiplying and comparing two of them only aligns scales, and rounding
+ * one to at least {@code k} fraction digits is exact. Past {@code k = 18} trailing zeros are stripped, and a decimal
+ * growing beyond {@value #MAX_UNREDUCED_BIT_LENGTH} bits is reduced to lowest terms like any other value.
+ */
+public final class BigRational implements Comparable<BigRational> {
 
-    private static final Pattern PLAIN_NUMBER = Pattern.compile("[+-]?\\d+(?:\\.\\d+)?");
+    static final int MAX_UNREDUCED_BIT_LENGTH = 512;
 
-    public BigRational {
-        Objects.requireNonNull(numerator, "numerator");
-        Objects.requireNonNull(denominator, "denominator");
+    // small form: both terms in (Long.MIN_VALUE, Long.MAX_VALUE], so negate()/abs() never overflow
+    private final long num;
+    private final long den;
 
-        if (denominator.signum() == 0) {
-            throw new IllegalArgumentException("denominator must not be 0");
-        } else if (denominator.signum() < 0) {
-            numerator = numerator.negate();
-            denominator = denominator.negate();
-        }
+    // large form: non-null if and only if the value does not fit the small form
+    private final @Nullable BigInteger bigNum;
+    private final @Nullable BigInteger bigDen;
 
-        var g = numerator.gcd(denominator);
-        numerator = numerator.divide(g);
-        denominator = denominator.divide(g);
+    // terms are unreduced in decimal form or deferred mode; the denominator is positive either way
+    private final boolean reduced;
+    private final boolean deferred;
+
+    // decimal form: k >= 0 if the denominator is stored as exactly 10^k (not necessarily reduced), -1 otherwise
+    private final int scale;
+
+    // lowest-terms form of an unreduced value, racily cached like String.hash (safe, the cached instance is immutable)
+    private @Nullable BigRational canonical;
+
+    public BigRational(BigInteger numerator, BigInteger denominator) {
+        this(normalize(numerator, denominator, false));
     }
 
-    public static final BigRational ZERO = new BigRational(BigInteger.ZERO, BigInteger.ONE);
-    public static final BigRational ONE = new BigRational(BigInteger.ONE, BigInteger.ONE);
+    private BigRational(BigRational normalized) {
+        this(normalized.num, normalized.den, normalized.bigNum, normalized.bigDen, true, false, normalized.scale);
+    }
+
+    private BigRational(long num, long den, @Nullable BigInteger bigNum, @Nullable BigInteger bigDen, boolean reduced, boolean deferred, int scale) {
+        this.num = num;
+        this.den = den;
+        this.bigNum = bigNum;
+        this.bigDen = bigDen;
+        this.reduced = reduced;
+        this.deferred = deferred;
+        this.scale = scale;
+    }
+
+    public static final BigRational ZERO = small(0, 1, false);
+    public static final BigRational ONE = small(1, 1, false);
 
     public static BigRational of(String s) {
         return BigRationalParser.of(s);
     }
 
+    /**
+     * Parses {@code s[offset, offset + length)} like {@link #of(String)}, without copying it.
+     */
+    public static BigRational of(CharSequence s, int offset, int length) {
+        return BigRationalParser.of(s, offset, length, Set.of());
+    }
+
+    /**
+     * Parses {@code s[offset, offset + length)} like {@link #of(String)}, also accepting the given {@link ParseOption}s.
+     */
+    public static BigRational of(CharSequence s, int offset, int length, Set<ParseOption> options) {
+        return BigRationalParser.of(s, offset, length, options);
+    }
+
     public static BigRational of(long numerator, long denominator) {
-        return of(BigInteger.valueOf(numerator), BigInteger.valueOf(denominator));
+        if (denominator == 0) {
+            throw new IllegalArgumentException("denominator must not be 0");
+        }
+        int scale = PowersOfTen.exponentOf(denominator);
+        return scale >= 0 ? decimal(numerator, scale, false) : normalize(numerator, denominator, false);
     }
 
     public static BigRational of(long numerator) {
-        return of(BigInteger.valueOf(numerator), BigInteger.ONE);
+        return numerator == Long.MIN_VALUE
+          ? large(BigInteger.valueOf(numerator), BigInteger.ONE, false)
+          : small(numerator, 1, false);
     }
 
     public static BigRational of(BigInteger numerator, BigInteger denominator) {
-        return new BigRational(numerator, denominator);
+        return normalize(numerator, denominator, false);
     }
 
     public static BigRational of(BigDecimal bigDecimal) {
         Objects.requireNonNull(bigDecimal, "bigDecimal");
 
-        BigDecimal amount = bigDecimal.stripTrailingZeros();
+        if (bigDecimal.signum() == 0) {
+            return ZERO;
+        }
+
+        // trailing zeros are only worth stripping when they push the denominator out of the long range
+        BigDecimal amount = bigDecimal.scale() <= PowersOfTen.MAX_LONG_EXPONENT ? bigDecimal : bigDecimal.stripTrailingZeros();
         BigInteger n = amount.unscaledValue();
 
         int scale = amount.scale();
 
         return scale >= 0
-          ? new BigRational(n, BigInteger.TEN.pow(scale))
-          : new BigRational(n.multiply(BigInteger.TEN.pow(-scale)), BigInteger.ONE);
+          ? decimal(n, scale, false)
+          : decimal(n.multiply(PowersOfTen.bigInteger(-scale)), 0, false);
+    }
+
+    /**
+     * {@code unscaled / 10^scale}, e.g. an amount in minor units, without going through a {@link BigDecimal}.
+     *
+     * @throws IllegalArgumentException if {@code scale} is negative
+     */
+    public static BigRational ofUnscaled(long unscaled, int scale) {
+        if (scale < 0) {
+            throw new IllegalArgumentException("scale must be >= 0: " + scale);
+        }
+        return decimal(unscaled, scale, false);
+    }
+
+    // unscaled / 10^scale, for callers that already split a decimal into its digits and scale
+    static BigRational ofUnscaled(BigInteger unscaled, int scale) {
+        return unscaled.signum() == 0 ? ZERO : decimal(unscaled, scale, false);
+    }
+
+    /**
+     * Returns this value in deferred-reduction mode: arithmetic results involving it skip the gcd until observed.
+     */
+    public BigRational deferReduction() {
+        return deferred ? this : new BigRational(num, den, bigNum, bigDen, reduced, true, scale);
+    }
+
+    /**
+     * Returns this value in lowest terms, leaving deferred-reduction mode.
+     */
+    public BigRational reduce() {
+        BigRational c = canonical();
+        return c.deferred ? new BigRational(c.num, c.den, c.bigNum, c.bigDen, true, false, c.scale) : c;
+    }
+
+    /**
+     * Returns {@code true} if this value has a finite decimal expansion, i.e. its denominator in lowest terms has no
+     * prime factors other than 2 and 5.
+     */
+    public boolean isDecimal() {
+        return scale >= 0 || minimalScale(canonical()) >= 0;
+    }
+
+    /**
+     * Returns the smallest number of fraction digits that represents this value exactly.
+     *
+     * @throws ArithmeticException if this value has no finite decimal expansion
+     */
+    public int scale() {
+        if (scale >= 0) {
+            if (bigNum != null) {
+                return Math.max(0, new BigDecimal(bigNum, scale).stripTrailingZeros().scale());
+            }
+            long n = num;
+            int k = scale;
+            while (k > 0 && n % 10 == 0) {
+                n /= 10;
+                k--;
+            }
+            return n == 0 ? 0 : k;
+        }
+        int k = minimalScale(canonical());
+        if (k < 0) {
+            throw new ArithmeticException("no finite decimal expansion: " + this);
+        }
+        return k;
+    }
+
+    boolean isReduced() {
+        return reduced;
+    }
+
+    // combined bit length of the terms as stored, before any pending reduction
+    int bitLength() {
+        return bigNum != null
+          ? bigNum.bitLength() + bigDen.bitLength()
+          : 2 * Long.SIZE - Long.numberOfLeadingZeros(Math.abs(num)) - Long.numberOfLeadingZeros(den);
+    }
+
+    // raw terms as stored (possibly unreduced, positive denominator), small ones only valid if isSmall()
+    boolean isSmall() {
+        return bigNum == null;
+    }
+
+    long smallNumerator() {
+        return num;
+    }
+
+    long smallDenominator() {
+        return den;
+    }
+
+    public BigInteger numerator() {
+        BigRational c = canonical();
+        return c.bigNum != null ? c.bigNum : BigInteger.valueOf(c.num);
+    }
+
+    public BigInteger denominator() {
+        BigRational c = canonical();
+        return c.bigDen != null ? c.bigDen : BigInteger.valueOf(c.den);
     }
 
     public boolean isZero() {
-        return numerator.signum() == 0;
+        return signum() == 0;
+    }
+
+    public boolean isOne() {
+        // n / d == 1 if and only if n == d, reduced or not
+        return bigNum == null ? num == den : bigNum.equals(bigDen);
     }
 
     public int signum() {
-        return numerator.signum();
+        return bigNum != null ? bigNum.signum() : Long.signum(num);
     }
 
     public BigRational negate() {
-        return new BigRational(numerator.negate(), denominator);
+        // the small range is symmetric, so negation never changes the representation
+        return bigNum != null
+          ? new BigRational(0, 0, bigNum.negate(), bigDen, reduced, deferred, scale)
+          : new BigRational(-num, den, null, null, reduced, deferred, scale);
     }
 
     public BigRational abs() {
@@ -78,18 +246,58 @@ public record BigRational(BigInteger numerator, BigInteger denominator) implemen
 
     public BigRational add(BigRational o) {
         Objects.requireNonNull(o, "o");
-        BigInteger nn = this.numerator.multiply(o.denominator).add(o.numerator.multiply(this.denominator));
-        BigInteger dd = this.denominator.multiply(o.denominator);
-        return of(nn, dd);
+        if (o.isZero() && keepsMode(this, o)) {
+            return this;
+        } else if (isZero() && keepsMode(o, this)) {
+            return o;
+        } else if (!instrumented(this, o)) {
+            return sum(o, false);
+        }
+        var event = RationalOperationEvent.start();
+        return RationalOperationEvent.commit(event, "add", this, o, sum(o, false), reduces(this, o, scale >= 0 && o.scale >= 0));
     }
 
     public BigRational subtract(BigRational o) {
-        return add(o.negate());
+        Objects.requireNonNull(o, "o");
+        if (o.isZero() && keepsMode(this, o)) {
+            return this;
+        } else if (!instrumented(this, o)) {
+            return sum(o, true);
+        }
+        var event = RationalOperationEvent.start();
+        return RationalOperationEvent.commit(event, "subtract", this, o, sum(o, true), reduces(this, o, scale >= 0 && o.scale >= 0));
     }
 
     public BigRational multiply(BigRational o) {
         Objects.requireNonNull(o, "o");
-        return of(this.numerator.multiply(o.numerator), this.denominator.multiply(o.denominator));
+        if (o.isOne() && keepsMode(this, o)) {
+            return this;
+        } else if (isOne() && keepsMode(o, this)) {
+            return o;
+        } else if ((isZero() || o.isZero()) && !deferred && !o.deferred) {
+            return ZERO;
+        } else if (!instrumented(this, o)) {
+            return product(o);
+        }
+        var event = RationalOperationEvent.start();
+        return RationalOperationEvent.commit(event, "multiply", this, o, product(o), reduces(this, o, scale >= 0 && o.scale >= 0));
+    }
+
+    private BigRational product(BigRational o) {
+        if (scale >= 0 && o.scale >= 0) {
+            return multiplyDecimal(this, o, deferred || o.deferred);
+        } else if (deferred || o.deferred) {
+            return multiplyUnreduced(operand(), o.operand());
+        }
+        BigRational x = canonical();
+        BigRational y = o.canonical();
+        if (x.bigNum == null && y.bigNum == null) {
+            BigRational product = multiplySmall(x.num, x.den, y.num, y.den);
+            if (product != null) {
+                return product;
+            }
+        }
+        return multiplyLarge(x.rawNumerator(), x.rawDenominator(), y.rawNumerator(), y.rawDenominator());
     }
 
     public BigRational divide(long o) {
@@ -98,20 +306,82 @@ public record BigRational(BigInteger numerator, BigInteger denominator) implemen
 
     public BigRational divide(BigRational o) {
         Objects.requireNonNull(o, "o");
-        if (o.numerator.signum() == 0) {
+        if (o.signum() == 0) {
             throw new ArithmeticException("division by zero");
-        } else {
-            return of(this.numerator.multiply(o.denominator), this.denominator.multiply(o.numerator));
+        } else if (o.isOne() && keepsMode(this, o)) {
+            return this;
+        } else if (isZero() && !deferred && !o.deferred) {
+            return ZERO;
+        } else if (!instrumented(this, o)) {
+            return quotient(o);
+        }
+        var event = RationalOperationEvent.start();
+        return RationalOperationEvent.commit(event, "divide", this, o, quotient(o), reduces(this, o, false));
+    }
+
+    private BigRational quotient(BigRational o) {
+        if (deferred || o.deferred) {
+            return multiplyUnreduced(operand(), o.operand().inverse());
         }
+        BigRational x = canonical();
+        BigRational y = o.canonical();
+        if (x.bigNum == null && y.bigNum == null) {
+            BigRational quotient = y.num < 0
+              ? multiplySmall(x.num, x.den, -y.den, -y.num)
+              : multiplySmall(x.num, x.den, y.den, y.num);
+            if (quotient != null) {
+                return quotient;
+            }
+        }
+        return y.signum() < 0
+          ? multiplyLarge(x.rawNumerator(), x.rawDenominator(), y.rawDenominator().negate(), y.rawNumerator().negate())
+          : multiplyLarge(x.rawNumerator(), x.rawDenominator(), y.rawDenominator(), y.rawNumerator());
+    }
+
+    // two small operands can't produce a result anywhere near the JFR threshold, so only wider ones pay for the event
+    private static boolean instrumented(BigRational x, BigRational y) {
+        return (x.bigNum != null || y.bigNum != null || RationalOperationEvent.BIT_LENGTH_THRESHOLD <= 4 * Long.SIZE)
+          && RationalOperationEvent.enabled();
+    }
+
+    // whether the result of x and y goes through a gcd: decimal forms only align scales, deferred ones skip it
+    private static boolean reduces(BigRational x, BigRational y, boolean decimal) {
+        return !decimal && !x.deferred && !y.deferred;
+    }
+
+    // whether x alone already carries the deferred mode a result of x and y would have
+    private static boolean keepsMode(BigRational x, BigRational y) {
+        return x.deferred || !y.deferred;
+    }
+
+    private BigRational sum(BigRational o, boolean subtract) {
+        if (scale >= 0 && o.scale >= 0) {
+            return addDecimal(this, o, subtract, deferred || o.deferred);
+        } else if (deferred || o.deferred) {
+            return addUnreduced(operand(), subtract ? o.operand().negate() : o.operand());
+        }
+        BigRational x = canonical();
+        BigRational y = o.canonical();
+        if (x.bigNum == null && y.bigNum == null) {
+            BigRational sum = addSmall(x.num, x.den, subtract ? -y.num : y.num, y.den);
+            if (sum != null) {
+                return sum;
+            }
+        }
+        BigInteger c = y.rawNumerator();
+        return addLarge(x.rawNumerator(), x.rawDenominator(), subtract ? c.negate() : c, y.rawDenominator());
     }
 
     public BigInteger floor() {
-        BigInteger[] qr = numerator.divideAndRemainder(denominator);
+        if (bigNum == null) {
+            return BigInteger.valueOf(Math.floorDiv(num, den));
+        }
+        BigInteger[] qr = bigNum.divideAndRemainder(bigDen);
         BigInteger q = qr[0];
         BigInteger r = qr[1];
         if (r.signum() == 0) {
             return q;
-        } else if (numerator.signum() < 0) {
+        } else if (bigNum.signum() < 0) {
             return q.subtract(BigInteger.ONE);
         } else {
             return q;
@@ -119,12 +389,15 @@ public record BigRational(BigInteger numerator, BigInteger denominator) implemen
     }
 
     public BigInteger ceil() {
-        BigInteger[] qr = numerator.divideAndRemainder(denominator);
+        if (bigNum == null) {
+            return BigInteger.valueOf(-Math.floorDiv(-num, den));
+        }
+        BigInteger[] qr = bigNum.divideAndRemainder(bigDen);
         BigInteger q = qr[0];
         BigInteger r = qr[1];
         if (r.signum() == 0) {
             return q;
-        } else if (numerator.signum() > 0) {
+        } else if (bigNum.signum() > 0) {
             return q.add(BigInteger.ONE);
         } else {
             return q;
@@ -132,75 +405,223 @@ public record BigRational(BigInteger numerator, BigInteger denominator) implemen
     }
 
     public BigInteger truncate() {
-        return numerator.divide(denominator);
+        return bigNum != null ? bigNum.divide(bigDen) : BigInteger.valueOf(num / den);
     }
 
     public BigInteger roundHalfUp() {
-        if (numerator.signum() == 0) {
+        if (signum() == 0) {
             return BigInteger.ZERO;
         }
-        BigInteger q = numerator.divide(denominator);
-        BigInteger r = numerator.remainder(denominator).abs();
+        if (bigNum == null) {
+            long q = num / den;
+            long r = Math.abs(num % den);
+            // r >= den - r <=> 2r >= den, without overflowing 2r
+            return BigInteger.valueOf(r < den - r ? q : q + Long.signum(num));
+        }
+        BigInteger q = bigNum.divide(bigDen);
+        BigInteger r = bigNum.remainder(bigDen).abs();
         BigInteger twoR = r.shiftLeft(1);
-        int cmp = twoR.compareTo(denominator);
+        int cmp = twoR.compareTo(bigDen);
         if (cmp < 0) {
             return q;
         } else {
             // exactly half: half-up => away from 0
-            return q.add(BigInteger.valueOf(numerator.signum()));
+            return q.add(BigInteger.valueOf(bigNum.signum()));
         }
     }
 
     public BigInteger roundHalfEven() {
-        if (numerator.signum() == 0) {
+        if (signum() == 0) {
             return BigInteger.ZERO;
         }
-        BigInteger q = numerator.divide(denominator);
-        BigInteger r = numerator.remainder(denominator).abs();
+        if (bigNum == null) {
+            long q = num / den;
+            long r = Math.abs(num % den);
+            int cmp = Long.compare(r, den - r);
+            if (cmp < 0 || cmp == 0 && (q & 1) == 0) {
+                return BigInteger.valueOf(q);
+            } else {
+                return BigInteger.valueOf(q + Long.signum(num));
+            }
+        }
+        BigInteger q = bigNum.divide(bigDen);
+        BigInteger r = bigNum.remainder(bigDen).abs();
         BigInteger twoR = r.shiftLeft(1);
-        int cmp = twoR.compareTo(denominator);
+        int cmp = twoR.compareTo(bigDen);
         if (cmp < 0) {
             return q;
         } else if (cmp > 0) {
-            return q.add(BigInteger.valueOf(numerator.signum()));
+            return q.add(BigInteger.valueOf(bigNum.signum()));
         } else {
             return q.and(BigInteger.ONE).equals(BigInteger.ZERO)
               ? q
-              : q.add(BigInteger.valueOf(numerator.signum()));
+              : q.add(BigInteger.valueOf(bigNum.signum()));
         }
     }
 
     BigDecimal toBigDecimal(int scale, Rounding rounding) {
-        Objects.requireNonNull(rounding, "rounding");
+        return round(scale, rounding, false).value();
+    }
 
+    BigDecimal toBigDecimal(MathContext mathContext) {
+        Objects.requireNonNull(mathContext, "mathContext");
+
+        BigDecimal n = bigNum != null ? new BigDecimal(bigNum) : BigDecimal.valueOf(num);
+        BigDecimal d = bigDen != null ? new BigDecimal(bigDen) : BigDecimal.valueOf(den);
+
+        return n.divide(d, mathContext);
+    }
+
+    public Decimal toDecimal(int scale, Rounding rounding) {
+        return round(scale, rounding, true);
+    }
+
+    /**
+     * The unscaled value of {@code toDecimal(scale, rounding).value()}, without computing the residual.
+     */
+    public BigInteger toUnscaled(int scale, Rounding rounding) {
+        return round(scale, rounding, false).value().unscaledValue();
+    }
+
+    /**
+     * The unscaled value of {@code toDecimal(scale, rounding).value()} as a {@code long}, without computing the
+     * residual or allocating when this value and the result fit a {@code long}.
+     *
+     * @throws ArithmeticException if the result does not fit a {@code long}
+     */
+    public long toUnscaledLong(int scale, Rounding rounding) {
+        Objects.requireNonNull(rounding, "rounding");
         if (scale < 0) {
             throw new ArithmeticException("negative scale");
         }
+        if (bigNum == null && scale <= PowersOfTen.MAX_LONG_EXPONENT) {
+            if (this.scale >= 0 && scale >= this.scale) {
+                long p = PowersOfTen.longValue(scale - this.scale);
+                if (!overflows(num, p)) {
+                    return num * p;
+                }
+            } else if (this.scale >= 0 || !overflows(num, PowersOfTen.longValue(scale))) {
+                long n = this.scale >= 0 ? num : num * PowersOfTen.longValue(scale);
+                long d = this.scale >= 0 ? PowersOfTen.longValue(this.scale - scale) : den;
+                long q = n / d;
+                long r = n % d;
+                return q + roundingStep(rounding, Long.signum(r), Long.compare(Math.abs(r), d - Math.abs(r)), (q & 1) != 0);
+            }
+        }
+        return toUnscaled(scale, rounding).longValueExact();
+    }
 
-        BigDecimal n = new BigDecimal(numerator);
-        BigDecimal d = new BigDecimal(denominator);
+    /**
+     * Whether {@link #toUnscaledLong(int, Rounding)} fits a {@code long} in every rounding mode, judged from the bit
+     * lengths of the terms alone, without allocating. Conservative: {@code false} from magnitudes of about
+     * {@code 2^61} up, even where the result would fit.
+     */
+    public boolean fitsUnscaledLong(int scale) {
+        if (scale < 0 || scale > PowersOfTen.MAX_LONG_EXPONENT) {
+            return false;
+        }
+        int numBits = bigNum != null ? bigNum.bitLength() : Long.SIZE - Long.numberOfLeadingZeros(Math.abs(num));
+        int denBits = bigNum != null ? bigDen.bitLength() : Long.SIZE - Long.numberOfLeadingZeros(den);
+        int powerBits = Long.SIZE - Long.numberOfLeadingZeros(PowersOfTen.longValue(scale));
+        // |num / den| < 2^(numBits - denBits + 1), so the scaled value stays below 2^62 and rounding can't overflow
+        return numBits - denBits + 1 + powerBits <= 62;
+    }
 
-        return n.divide(d, scale, switch (rounding) {
-            case FLOOR -> RoundingMode.FLOOR;
-            case CEIL -> RoundingMode.CEILING;
-            case HALF_UP -> RoundingMode.HALF_UP;
-            case HALF_EVEN -> RoundingMode.HALF_EVEN;
-        });
+    /**
+     * Whether this value is a whole number of {@code 10^-scale} units, i.e. {@link #toDecimal(int, Rounding)} at
+     * {@code scale} has a zero residual in every rounding mode.
+     *
+     * @throws ArithmeticException if {@code scale} is negative
+     */
+    public boolean isExactAt(int scale) {
+        if (scale < 0) {
+            throw new ArithmeticException("negative scale");
+        }
+        if (this.scale >= 0) {
+            return scale() <= scale;
+        }
+        int k = minimalScale(canonical());
+        return k >= 0 && k <= scale;
     }
 
-    BigDecimal toBigDecimal(MathContext mathContext) {
-        Objects.requireNonNull(mathContext, "mathContext");
+    // one division of the numerator scaled to k digits: the value is q / 10^k and the residual r / (divisor * 10^k),
+    // both straight from the rounded quotient and remainder (the residual is ZERO unless requested)
+    private Decimal round(int k, Rounding rounding, boolean withResidual) {
+        Objects.requireNonNull(rounding, "rounding");
 
-        BigDecimal n = new BigDecimal(numerator);
-        BigDecimal d = new BigDecimal(denominator);
+        if (k < 0) {
+            throw new ArithmeticException("negative scale");
+        }
 
-        return n.divide(d, mathContext);
+        if (scale >= 0 && k >= scale) {
+            if (bigNum == null && k <= PowersOfTen.MAX_LONG_EXPONENT) {
+                long p = PowersOfTen.longValue(k - scale);
+                if (!overflows(num, p)) {
+                    return new Decimal(BigDecimal.valueOf(num * p, k), ZERO);
+                }
+            }
+            return new Decimal(new BigDecimal(alignDecimal(this, k), k), ZERO);
+        }
+
+        if (bigNum == null && (scale >= 0 || k <= PowersOfTen.MAX_LONG_EXPONENT && !overflows(num, PowersOfTen.longValue(k)))) {
+            // decimal form divides by 10^(scale - k), anything else divides num * 10^k by its denominator
+            long n = scale >= 0 ? num : num * PowersOfTen.longValue(k);
+            long d = scale >= 0 ? PowersOfTen.longValue(scale - k) : den;
+            long q = n / d;
+            long r = n % d;
+            int step = roundingStep(rounding, Long.signum(r), Long.compare(Math.abs(r), d - Math.abs(r)), (q & 1) != 0);
+            q += step;
+            r -= step * d;
+            return new Decimal(BigDecimal.valueOf(q, k), withResidual ? residual(r, d, k) : ZERO);
+        }
+
+        BigInteger n = scale >= 0 ? rawNumerator() : rawNumerator().multiply(PowersOfTen.bigInteger(k));
+        BigInteger d = scale >= 0 ? PowersOfTen.bigInteger(scale - k) : rawDenominator();
+        BigInteger[] qr = n.divideAndRemainder(d);
+        BigInteger q = qr[0];
+        BigInteger r = qr[1];
+        int sign = r.signum();
+        int step = roundingStep(rounding, sign, sign == 0 ? 0 : r.abs().shiftLeft(1).compareTo(d), q.testBit(0));
+        if (step != 0) {
+            q = q.add(BigInteger.valueOf(step));
+            r = step > 0 ? r.subtract(d) : r.add(d);
+        }
+        return new Decimal(new BigDecimal(q, k), withResidual ? residual(r, d, k) : ZERO);
     }
 
-    public Decimal toDecimal(int scale, Rounding rounding) {
-        BigDecimal value = toBigDecimal(scale, rounding);
-        BigRational asRational = fromBigDecimalExact(value);
-        return new Decimal(value, this.subtract(asRational));
+    // -1, 0 or 1 added to a quotient truncated toward zero, given the remainder sign and |r| compared to d - |r|
+    static int roundingStep(Rounding rounding, int sign, int half, boolean odd) {
+        if (sign == 0) {
+            return 0;
+        }
+        return switch (rounding) {
+            case FLOOR -> sign < 0 ? -1 : 0;
+            case CEIL -> sign > 0 ? 1 : 0;
+            case HALF_UP -> half >= 0 ? sign : 0;
+            case HALF_EVEN -> half > 0 || half == 0 && odd ? sign : 0;
+        };
+    }
+
+    // r / (d * 10^k), which is a decimal over 10^scale when this value is in decimal form
+    private BigRational residual(long r, long d, int k) {
+        if (r == 0) {
+            return ZERO;
+        } else if (scale >= 0) {
+            return decimal(r, scale, deferred);
+        }
+        long p = PowersOfTen.longValue(k);
+        return overflows(d, p)
+          ? normalize(BigInteger.valueOf(r), BigInteger.valueOf(d).multiply(BigInteger.valueOf(p)), deferred)
+          : normalize(r, d * p, deferred);
+    }
+
+    private BigRational residual(BigInteger r, BigInteger d, int k) {
+        if (r.signum() == 0) {
+            return ZERO;
+        } else if (scale >= 0) {
+            return decimal(r, scale, deferred);
+        }
+        return normalize(r, d.multiply(PowersOfTen.bigInteger(k)), deferred);
     }
 
     public Decimal toDecimal(MathContext mathContext) {
@@ -214,27 +635,217 @@ public record BigRational(BigInteger numerator, BigInteger denominator) implemen
         int scale = bd.scale();
 
         if (scale >= 0) {
-            BigInteger den = BigInteger.TEN.pow(scale);
-            return BigRational.of(unscaled, den);
+            return decimal(unscaled, scale, false);
         } else {
-            BigInteger mul = BigInteger.TEN.pow(-scale);
-            return BigRational.of(unscaled.multiply(mul), BigInteger.ONE);
+            return decimal(unscaled.multiply(PowersOfTen.bigInteger(-scale)), 0, false);
         }
     }
 
     public BigRational inverse() {
-        return new BigRational(denominator, numerator);
+        if (signum() == 0) {
+            throw new IllegalArgumentException("denominator must not be 0");
+        }
+        // swapping terms never changes the representation either
+        if (bigNum == null) {
+            return num < 0
+              ? new BigRational(-den, -num, null, null, reduced, deferred, -1)
+              : new BigRational(den, num, null, null, reduced, deferred, -1);
+        }
+        return bigNum.signum() < 0
+          ? new BigRational(0, 0, bigDen.negate(), bigNum.negate(), reduced, deferred, -1)
+          : new BigRational(0, 0, bigDen, bigNum, reduced, deferred, -1);
+    }
+
+    /**
+     * Returns the closest value to this one with a denominator of at most {@code maxDenominator} (the best rational
+     * approximation, found through the continued fraction expansion), or this value in lowest terms if its denominator
+     * is already within the bound.
+     */
+    public BigRational limitDenominator(long maxDenominator) {
+        if (maxDenominator < 1) {
+            throw new IllegalArgumentException("maxDenominator must be > 0");
+        }
+        BigRational c = reduce();
+        if (c.bigNum != null) {
+            return c.limitDenominator(BigInteger.valueOf(maxDenominator));
+        } else if (c.den <= maxDenominator) {
+            return c;
+        } else if (!convergentsFitLong(Math.abs(c.num) / c.den, maxDenominator)) {
+            return c.limitDenominator(BigInteger.valueOf(maxDenominator));
+        }
+        return limitDenominator(c.num, c.den, 0, 1, 1, 0, maxDenominator);
+    }
+
+    /**
+     * @see #limitDenominator(long)
+     */
+    public BigRational limitDenominator(BigInteger maxDenominator) {
+        Objects.requireNonNull(maxDenominator, "maxDenominator");
+        if (maxDenominator.signum() <= 0) {
+            throw new IllegalArgumentException("maxDenominator must be > 0");
+        }
+        BigRational c = reduce();
+        if (c.denominator().compareTo(maxDenominator) <= 0) {
+            return c;
+        }
+        BigInteger p0 = BigInteger.ZERO, q0 = BigInteger.ONE, p1 = BigInteger.ONE, q1 = BigInteger.ZERO;
+        BigInteger n = c.numerator(), d = c.denominator();
+        BigInteger integerPart = n.abs().divide(d);
+        boolean narrow = maxDenominator.bitLength() < Long.SIZE && integerPart.bitLength() < Long.SIZE
+          && convergentsFitLong(integerPart.longValue(), maxDenominator.longValue());
+        while (true) {
+            // the remainders shrink quickly: once they fit, the rest of the expansion runs on longs
+            if (narrow && n.bitLength() < Long.SIZE - 1 && d.bitLength() < Long.SIZE - 1) {
+                return limitDenominator(n.longValue(), d.longValue(), p0.longValue(), q0.longValue(), p1.longValue(), q1
+                  .longValue(), maxDenominator.longValue());
+            }
+            // floor division: the remainder stays non-negative, so every partial quotient after the first is positive
+            BigInteger[] qr = n.divideAndRemainder(d);
+            BigInteger a = qr[0];
+            BigInteger r = qr[1];
+            if (r.signum() < 0) {
+                a = a.subtract(BigInteger.ONE);
+                r = r.add(d);
+            }
+            BigInteger q2 = q0.add(a.multiply(q1));
+            if (q2.compareTo(maxDenominator) > 0) {
+                break;
+            }
+            BigInteger p2 = p0.add(a.multiply(p1));
+            p0 = p1;
+            q0 = q1;
+            p1 = p2;
+            q1 = q2;
+            n = d;
+            d = r;
+        }
+        BigInteger k = maxDenominator.subtract(q0).divide(q1);
+        BigInteger qs = q0.add(k.multiply(q1));
+        // see below: the convergent is off by d / (q1 * den), the semiconvergent by (n - k * d) / (qs * den)
+        boolean convergent = d.multiply(qs).compareTo(n.subtract(k.multiply(d)).multiply(q1)) <= 0;
+        return convergent ? large(p1, q1, false) : large(p0.add(k.multiply(p1)), qs, false);
+    }
+
+    // numerators of (semi)convergents with denominators up to max are within |x| * max + 1
+    private static boolean convergentsFitLong(long integerPart, long maxDenominator) {
+        return 2 * Long.SIZE - Long.numberOfLeadingZeros(integerPart + 1) - Long.numberOfLeadingZeros(maxDenominator) < Long.SIZE - 2;
+    }
+
+    // continues the expansion of n / d from convergents p0 / q0 and p1 / q1, all terms below 2^62
+    private static BigRational limitDenominator(long n, long d, long p0, long q0, long p1, long q1, long maxDenominator) {
+        while (true) {
+            long a = Math.floorDiv(n, d);
+            // q0 + a * q1 > max, without overflowing
+            if (q1 != 0 && a > (maxDenominator - q0) / q1) {
+                break;
+            }
+            long q2 = q0 + a * q1;
+            long p2 = p0 + a * p1;
+            p0 = p1;
+            q0 = q1;
+            p1 = p2;
+            q1 = q2;
+            long r = n - a * d;
+            n = d;
+            d = r;
+        }
+        long k = (maxDenominator - q0) / q1;
+        long qs = q0 + k * q1;
+        // p * den - num * q is d (up to sign) for p1 / q1 and n - k * d for the semiconvergent, so the errors are
+        // d / (q1 * den) and (n - k * d) / (qs * den), compared as 128-bit cross products
+        long convergentHigh = Math.multiplyHigh(d, qs);
+        long semiconvergentHigh = Math.multiplyHigh(n - k * d, q1);
+        boolean convergent = convergentHigh != semiconvergentHigh
+          ? convergentHigh < semiconvergentHigh
+          : Long.compareUnsigned(d * qs, (n - k * d) * q1) <= 0;
+        // (semi)convergents are in lowest terms already
+        return convergent ? small(p1, q1, false) : small(p0 + k * p1, qs, false);
     }
 
     @Override
     public int compareTo(BigRational o) {
         Objects.requireNonNull(o, "o");
-        return this.numerator.multiply(o.denominator).compareTo(o.numerator.multiply(this.denominator));
+        // raw terms are enough: reducing never changes the sign of the cross products, only their size
+        int sign = signum();
+        int otherSign = o.signum();
+        if (sign != otherSign) {
+            return sign < otherSign ? -1 : 1;
+        } else if (sign == 0) {
+            return 0;
+        } else if (scale >= 0 && o.scale >= 0) {
+            return compareDecimal(this, o);
+        }
+        if (bigNum == null && o.bigNum == null) {
+            if (den == o.den) {
+                return Long.compare(num, o.num);
+            }
+            // exact 128-bit comparison of num * o.den and o.num * den
+            long lhsHigh = Math.multiplyHigh(num, o.den);
+            long rhsHigh = Math.multiplyHigh(o.num, den);
+            return lhsHigh != rhsHigh
+              ? Long.compare(lhsHigh, rhsHigh)
+              : Long.compareUnsigned(num * o.den, o.num * den);
+        }
+        BigInteger n = rawNumerator();
+        BigInteger d = rawDenominator();
+        BigInteger otherN = o.rawNumerator();
+        BigInteger otherD = o.rawDenominator();
+        if (d.equals(otherD)) {
+            return n.compareTo(otherN);
+        }
+        // 2^(e - 1) < |n / d| <= 2^(e + 1) for e = bitLength(n) - bitLength(d), so exponents 2 apart decide the order
+        int exponentDiff = (n.bitLength() - d.bitLength()) - (otherN.bitLength() - otherD.bitLength());
+        if (exponentDiff >= 2 || exponentDiff <= -2) {
+            return exponentDiff > 0 == sign > 0 ? 1 : -1;
+        }
+        // below 2^1000 the double quotients neither overflow nor underflow and are within a few ulps of the exact ones
+        if (Math.max(Math.max(n.bitLength(), d.bitLength()), Math.max(otherN.bitLength(), otherD.bitLength())) < 1000) {
+            double q = Math.abs(n.doubleValue() / d.doubleValue());
+            double otherQ = Math.abs(otherN.doubleValue() / otherD.doubleValue());
+            if (q > otherQ * (1 + 0x1p-40)) {
+                return sign;
+            } else if (otherQ > q * (1 + 0x1p-40)) {
+                return -sign;
+            }
+        }
+        return n.multiply(otherD).compareTo(otherN.multiply(d));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof BigRational other)) {
+            return false;
+        }
+        if (scale >= 0 && other.scale >= 0) {
+            return compareDecimal(this, other) == 0;
+        }
+        BigRational x = canonical();
+        BigRational y = other.canonical();
+        if (x.bigNum == null) {
+            return y.bigNum == null && x.num == y.num && x.den == y.den;
+        } else {
+            return x.bigNum.equals(y.bigNum) && x.bigDen.equals(y.bigDen);
+        }
+    }
+
+    @Override
+    public int hashCode() {
+        BigRational c = canonical();
+        return c.bigNum != null
+          ? 31 * c.bigNum.hashCode() + c.bigDen.hashCode()
+          : 31 * Long.hashCode(c.num) + Long.hashCode(c.den);
     }
 
     @Override
     public String toString() {
-        return denominator.equals(BigInteger.ONE) ? numerator.toString() : numerator + "/" + denominator;
+        BigRational c = canonical();
+        if (c.bigNum == null) {
+            return c.den == 1 ? Long.toString(c.num) : c.num + "/" + c.den;
+        }
+        return c.bigDen.equals(BigInteger.ONE) ? c.bigNum.toString() : c.bigNum + "/" + c.bigDen;
     }
 
     public String toDecimalString() {
@@ -244,4 +855,404 @@ public record BigRational(BigInteger numerator, BigInteger denominator) implemen
     public String toDecimalString(int scale) {
         return "~" + toBigDecimal(scale, Rounding.HALF_EVEN).toPlainString();
     }
+
+    private BigRational canonical() {
+        if (reduced) {
+            return this;
+        }
+        BigRational c = canonical;
+        if (c == null) {
+            c = bigNum != null ? normalize(bigNum, bigDen, deferred) : normalize(num, den, deferred);
+            canonical = c;
+        }
+        return c;
+    }
+
+    // prefers the already computed lowest-terms form, if any
+    private BigRational operand() {
+        BigRational c = canonical;
+        return c != null ? c : this;
+    }
+
+    // the unscaled value of a small, non-deferred decimal form, whose denominator is 10^decimalScale()
+    long unscaledValue() {
+        return num;
+    }
+
+    // the k of a small, non-deferred decimal form over 10^k, -1 for any other form
+    int decimalScale() {
+        return bigNum == null && !deferred ? scale : -1;
+    }
+
+    BigInteger rawNumerator() {
+        return bigNum != null ? bigNum : BigInteger.valueOf(num);
+    }
+
+    BigInteger rawDenominator() {
+        return bigDen != null ? bigDen : BigInteger.valueOf(den);
+    }
+
+    private static BigRational addUnreduced(BigRational x, BigRational y) {
+        if (x.bigNum == null && y.bigNum == null) {
+            if (x.den == y.den) {
+                long n = x.num + y.num;
+                if (((x.num ^ n) & (y.num ^ n)) >= 0 && n != Long.MIN_VALUE) {
+                    return unreduced(n, x.den);
+                }
+            } else if (!overflows(x.num, y.den) && !overflows(y.num, x.den) && !overflows(x.den, y.den)) {
+                long ad = x.num * y.den;
+                long cb = y.num * x.den;
+                long n = ad + cb;
+                if (((ad ^ n) & (cb ^ n)) >= 0 && n != Long.MIN_VALUE) {
+                    return unreduced(n, x.den * y.den);
+                }
+            }
+        }
+        BigInteger b = x.rawDenominator();
+        BigInteger d = y.rawDenominator();
+        return b.equals(d)
+          ? unreduced(x.rawNumerator().add(y.rawNumerator()), b)
+          : unreduced(x.rawNumerator().multiply(d).add(y.rawNumerator().multiply(b)), b.multiply(d));
+    }
+
+    private static BigRational multiplyUnreduced(BigRational x, BigRational y) {
+        if (x.bigNum == null && y.bigNum == null && !overflows(x.num, y.num) && !overflows(x.den, y.den)) {
+            long n = x.num * y.num;
+            if (n != Long.MIN_VALUE) {
+                return unreduced(n, x.den * y.den);
+            }
+        }
+        return unreduced(x.rawNumerator().multiply(y.rawNumerator()), x.rawDenominator().multiply(y.rawDenominator()));
+    }
+
+    private static BigRational unreduced(long n, long d) {
+        return new BigRational(n, d, null, null, false, true, -1);
+    }
+
+    private static BigRational unreduced(BigInteger n, BigInteger d) {
+        if (n.bitLength() + d.bitLength() > MAX_UNREDUCED_BIT_LENGTH) {
+            return normalize(n, d, true);
+        }
+        return fitsSmall(n) && fitsSmall(d)
+          ? unreduced(n.longValue(), d.longValue())
+          : new BigRational(0, 0, n, d, false, true, -1);
+    }
+
+    // a/b + c/d for terms in lowest terms, following Henrici: only the gcd of the denominators gets multiplied out,
+    // so the result needs no reduction beyond gcd(t, g); null if an intermediate result does not fit in a long
+    private static @Nullable BigRational addSmall(long a, long b, long c, long d) {
+        long g = b == d ? b : gcd(b, d);
+        if (g == 1) {
+            if (overflows(a, d) || overflows(c, b) || overflows(b, d)) {
+                return null;
+            }
+            long ad = a * d;
+            long cb = c * b;
+            long n = ad + cb;
+            if (((ad ^ n) & (cb ^ n)) < 0 || n == Long.MIN_VALUE) {
+                return null;
+            }
+            return small(n, b * d, false);
+        }
+        long bg = b / g;
+        long dg = d / g;
+        if (overflows(a, dg) || overflows(c, bg)) {
+            return null;
+        }
+        long x = a * dg;
+        long y = c * bg;
+        long t = x + y;
+        if (((x ^ t) & (y ^ t)) < 0 || t == Long.MIN_VALUE) {
+            return null;
+        }
+        long g2 = gcd(Math.abs(t), g);
+        long dg2 = d / g2;
+        if (overflows(bg, dg2)) {
+            return null;
+        }
+        return small(t / g2, bg * dg2, false);
+    }
+
+    private static BigRational addLarge(BigInteger a, BigInteger b, BigInteger c, BigInteger d) {
+        if (b.bitLength() < Long.SIZE && d.bitLength() < Long.SIZE) {
+            return addLarge(a, b.longValue(), c, d.longValue());
+        }
+        BigInteger g = b.equals(d) ? b : b.gcd(d);
+        if (g.equals(BigInteger.ONE)) {
+            return large(a.multiply(d).add(c.multiply(b)), b.multiply(d), false);
+        }
+        BigInteger bg = b.divide(g);
+        BigInteger t = a.multiply(d.divide(g)).add(c.multiply(bg));
+        BigInteger g2 = t.gcd(g);
+        return g2.equals(BigInteger.ONE)
+          ? large(t, bg.multiply(d), false)
+          : large(t.divide(g2), bg.multiply(d.divide(g2)), false);
+    }
+
+    // wide numerators over long denominators (typical for large amounts): every gcd is a long gcd, and the only
+    // BigInteger division left is a single-word remainder
+    private static BigRational addLarge(BigInteger a, long b, BigInteger c, long d) {
+        long g = b == d ? b : gcd(b, d);
+        long bg = b / g;
+        long dg = d / g;
+        BigInteger t = (dg == 1 ? a : a.multiply(BigInteger.valueOf(dg))).add(bg == 1 ? c : c.multiply(BigInteger.valueOf(bg)));
+        long g2 = g == 1 ? 1 : gcd(t.mod(BigInteger.valueOf(g)).longValue(), g);
+        return g2 == 1
+          ? large(t, BigInteger.valueOf(bg).multiply(BigInteger.valueOf(d)), false)
+          : large(t.divide(BigInteger.valueOf(g2)), BigInteger.valueOf(bg).multiply(BigInteger.valueOf(d / g2)), false);
+    }
+
+    // (a/b) * (c/d) for terms in lowest terms, cross-cancelling gcd(a, d) and gcd(c, b) up front so that the product
+    // is already in lowest terms; null if an intermediate result does not fit in a long
+    private static @Nullable BigRational multiplySmall(long a, long b, long c, long d) {
+        if (a == 0 || c == 0) {
+            return ZERO;
+        }
+        long g1 = gcd(Math.abs(a), d);
+        long g2 = gcd(Math.abs(c), b);
+        long n1 = a / g1;
+        long n2 = c / g2;
+        long d1 = b / g2;
+        long d2 = d / g1;
+        if (overflows(n1, n2) || overflows(d1, d2) || n1 * n2 == Long.MIN_VALUE) {
+            return null;
+        }
+        return small(n1 * n2, d1 * d2, false);
+    }
+
+    private static BigRational multiplyLarge(BigInteger a, BigInteger b, BigInteger c, BigInteger d) {
+        if (a.signum() == 0 || c.signum() == 0) {
+            return ZERO;
+        }
+        BigInteger g1 = a.gcd(d);
+        BigInteger g2 = c.gcd(b);
+        if (!g1.equals(BigInteger.ONE)) {
+            a = a.divide(g1);
+            d = d.divide(g1);
+        }
+        if (!g2.equals(BigInteger.ONE)) {
+            c = c.divide(g2);
+            b = b.divide(g2);
+        }
+        return large(a.multiply(c), b.multiply(d), false);
+    }
+
+    static boolean overflows(long x, long y) {
+        return Math.multiplyHigh(x, y) != (x * y) >> 63;
+    }
+
+    private static BigRational normalize(long n, long d, boolean deferred) {
+        if (n == Long.MIN_VALUE || d == Long.MIN_VALUE) {
+            return normalize(BigInteger.valueOf(n), BigInteger.valueOf(d), deferred);
+        }
+        if (d < 0) {
+            n = -n;
+            d = -d;
+        }
+        long g = gcd(Math.abs(n), d);
+        return small(n / g, d / g, deferred);
+    }
+
+    private static BigRational normalize(BigInteger numerator, BigInteger denominator, boolean deferred) {
+        Objects.requireNonNull(numerator, "numerator");
+        Objects.requireNonNull(denominator, "denominator");
+
+        if (denominator.signum() == 0) {
+            throw new IllegalArgumentException("denominator must not be 0");
+        } else if (denominator.signum() < 0) {
+            numerator = numerator.negate();
+            denominator = denominator.negate();
+        }
+
+        var g = numerator.gcd(denominator);
+        return large(numerator.divide(g), denominator.divide(g), deferred);
+    }
+
+    // binary gcd of two non-negative longs
+    static long gcd(long a, long b) {
+        if (a == 0) {
+            return b;
+        } else if (b == 0) {
+            return a;
+        }
+        int shift = Long.numberOfTrailingZeros(a | b);
+        a >>= Long.numberOfTrailingZeros(a);
+        while (b != 0) {
+            b >>= Long.numberOfTrailingZeros(b);
+            if (a > b) {
+                long t = b;
+                b = a;
+                a = t;
+            }
+            b -= a;
+        }
+        return a << shift;
+    }
+
+    private static BigRational small(long n, long d, boolean deferred) {
+        if (!deferred) {
+            BigRational c = cached(n, d);
+            if (c != null) {
+                return c;
+            }
+        }
+        return new BigRational(n, d, null, null, true, deferred, d == 1 ? 0 : -1);
+    }
+
+    // n / d for a reduced fraction with a positive denominator and n != Long.MIN_VALUE
+    static BigRational ofReduced(long n, long d) {
+        return small(n, d, false);
+    }
+
+    // expects a reduced fraction with a positive denominator
+    private static @Nullable BigRational cached(long n, long d) {
+        if (d == 1) {
+            return n >= Cache.LOW && n <= Cache.HIGH ? Cache.INTEGERS[(int) n - Cache.LOW] : null;
+        }
+        return n == 1 && d <= Cache.MAX_UNIT_DENOMINATOR ? Cache.UNITS[(int) d] : null;
+    }
+
+    /**
+     * Interned values, like {@link Integer#valueOf(int)}: the integers in {@code [-128, high]} and the unit fractions
+     * {@code 1/2 .. 1/100}. {@code high} defaults to 1024 and is set with
+     * {@code -Dcom.pivovarit.money.math.BigRational.cache.high}.
+     */
+    private static final class Cache {
+
+        static final int LOW = -128;
+        static final int HIGH = Math.clamp(Integer.getInteger("com.pivovarit.money.math.BigRational.cache.high", 1024), 127, 1 << 20);
+        static final int MAX_UNIT_DENOMINATOR = 100;
+
+        static final BigRational[] INTEGERS = new BigRational[HIGH - LOW + 1];
+        static final BigRational[] UNITS = new BigRational[MAX_UNIT_DENOMINATOR + 1];
+
+        static {
+            for (int i = 0; i < INTEGERS.length; i++) {
+                INTEGERS[i] = new BigRational(i + LOW, 1, null, null, true, false, 0);
+            }
+            for (int d = 2; d <= MAX_UNIT_DENOMINATOR; d++) {
+                int scale = PowersOfTen.exponentOf(d);
+                UNITS[d] = new BigRational(1, d, null, null, true, false, Math.max(scale, -1));
+            }
+        }
+    }
+
+    // expects a reduced fraction with a positive denominator, falls back to the small form whenever possible
+    private static BigRational large(BigInteger n, BigInteger d, boolean deferred) {
+        return fitsSmall(n) && fitsSmall(d)
+          ? small(n.longValue(), d.longValue(), deferred)
+          : new BigRational(0, 0, n, d, true, deferred, d.equals(BigInteger.ONE) ? 0 : -1);
+    }
+
+    private static BigRational decimal(long unscaled, int scale, boolean deferred) {
+        if (scale > PowersOfTen.MAX_LONG_EXPONENT || unscaled == Long.MIN_VALUE) {
+            return decimal(BigInteger.valueOf(unscaled), scale, deferred);
+        }
+        long d = PowersOfTen.longValue(scale);
+        if (!deferred) {
+            // only the cheap lookups: 0, 1, integers and 1/10^k, without reducing anything
+            BigRational c = unscaled == 0 ? ZERO : unscaled == d ? ONE : cached(unscaled, d);
+            if (c != null) {
+                return c;
+            }
+        }
+        return new BigRational(unscaled, d, null, null, scale == 0, deferred, scale);
+    }
+
+    // beyond 10^18 the decimal form sheds trailing zeros, and past the unreduced bound it gives way to lowest terms, so
+    // that chains of decimal products (whose scales add up) stay as bounded as reduced ones
+    private static BigRational decimal(BigInteger unscaled, int scale, boolean deferred) {
+        if (scale > PowersOfTen.MAX_LONG_EXPONENT) {
+            BigDecimal stripped = new BigDecimal(unscaled, scale).stripTrailingZeros();
+            if (stripped.scale() >= 0) {
+                unscaled = stripped.unscaledValue();
+                scale = stripped.scale();
+            } else {
+                unscaled = stripped.setScale(0).unscaledValue();
+                scale = 0;
+            }
+        }
+        if (scale <= PowersOfTen.MAX_LONG_EXPONENT && fitsSmall(unscaled)) {
+            return decimal(unscaled.longValue(), scale, deferred);
+        }
+        BigInteger d = PowersOfTen.bigInteger(scale);
+        return unscaled.bitLength() + d.bitLength() > MAX_UNREDUCED_BIT_LENGTH
+          ? normalize(unscaled, d, deferred)
+          : new BigRational(0, 0, unscaled, d, scale == 0, deferred, scale);
+    }
+
+    private static BigRational addDecimal(BigRational x, BigRational y, boolean subtract, boolean deferred) {
+        int k = Math.max(x.scale, y.scale);
+        if (x.bigNum == null && y.bigNum == null) {
+            long px = PowersOfTen.longValue(k - x.scale);
+            long py = PowersOfTen.longValue(k - y.scale);
+            long c = subtract ? -y.num : y.num;
+            if (!overflows(x.num, px) && !overflows(c, py)) {
+                long a = x.num * px;
+                long b = c * py;
+                long n = a + b;
+                if (((a ^ n) & (b ^ n)) >= 0) {
+                    return decimal(n, k, deferred);
+                }
+            }
+        }
+        BigInteger a = alignDecimal(x, k);
+        BigInteger b = alignDecimal(y, k);
+        return decimal(subtract ? a.subtract(b) : a.add(b), k, deferred);
+    }
+
+    private static BigRational multiplyDecimal(BigRational x, BigRational y, boolean deferred) {
+        int k = x.scale + y.scale;
+        if (x.bigNum == null && y.bigNum == null && k <= PowersOfTen.MAX_LONG_EXPONENT && !overflows(x.num, y.num)) {
+            return decimal(x.num * y.num, k, deferred);
+        }
+        return decimal(x.rawNumerator().multiply(y.rawNumerator()), k, deferred);
+    }
+
+    private static int compareDecimal(BigRational x, BigRational y) {
+        int k = Math.max(x.scale, y.scale);
+        if (x.bigNum == null && y.bigNum == null) {
+            long px = PowersOfTen.longValue(k - x.scale);
+            long py = PowersOfTen.longValue(k - y.scale);
+            long lhsHigh = Math.multiplyHigh(x.num, px);
+            long rhsHigh = Math.multiplyHigh(y.num, py);
+            return lhsHigh != rhsHigh
+              ? Long.compare(lhsHigh, rhsHigh)
+              : Long.compareUnsigned(x.num * px, y.num * py);
+        }
+        return alignDecimal(x, k).compareTo(alignDecimal(y, k));
+    }
+
+    // unscaled value of a decimal-form x rescaled to k >= x.scale
+    private static BigInteger alignDecimal(BigRational x, int k) {
+        return k == x.scale ? x.rawNumerator() : x.rawNumerator().multiply(PowersOfTen.bigInteger(k - x.scale));
+    }
+
+    // smallest k with 10^k divisible by the denominator of c (in lowest terms), or -1 if there is none
+    private static int minimalScale(BigRational c) {
+        if (c.bigDen == null) {
+            long d = c.den;
+            int twos = Long.numberOfTrailingZeros(d);
+            d >>= twos;
+            int fives = 0;
+            while (d % 5 == 0) {
+                d /= 5;
+                fives++;
+            }
+            return d == 1 ? Math.max(twos, fives) : -1;
+        }
+        int twos = c.bigDen.getLowestSetBit();
+        BigInteger d = c.bigDen.shiftRight(twos);
+        BigInteger five = BigInteger.valueOf(5);
+        int fives = 0;
+        for (BigInteger[] qr = d.divideAndRemainder(five); qr[1].signum() == 0; qr = d.divideAndRemainder(five)) {
+            d = qr[0];
+            fives++;
+        }
+        return d.equals(BigInteger.ONE) ? Math.max(twos, fives) : -1;
+    }
+
+    private static boolean fitsSmall(BigInteger value) {
+        return value.bitLength() < Long.SIZE && value.longValue() != Long.MIN_VALUE;
+    }
 }
@@ -1,52 +1,352 @@
 package com.pivovarit.money.math;
 
-import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.Objects;
-import java.util.regex.Pattern;
+import java.util.Set;
+import org.jspecify.annotations.Nullable;
 
+// single pass over the input: no trimming copies, substrings or regex, digits go into a long while they fit
 final class BigRationalParser {
 
     private BigRationalParser() {
     }
 
-    private static final Pattern PLAIN_NUMBER = Pattern.compile("[+-]?\\d+(?:\\.\\d+)?");
+    private static final int LONG_DIGITS = 18;
+    private static final int MAX_EXPONENT = 9_999;
 
     static BigRational of(String s) {
         Objects.requireNonNull(s, "s");
-        String input = s.trim();
+        BigRational plain = plain(s, 0, s.length());
+        return plain != null ? plain : new Scanner(s, 0, s.length(), false, false).rational();
+    }
+
+    static BigRational of(CharSequence s, int offset, int length, Set<ParseOption> options) {
+        Objects.requireNonNull(s, "s");
+        Objects.requireNonNull(options, "options");
+        Objects.checkFromIndexSize(offset, length, s.length());
+        boolean grouping = options.contains(ParseOption.GROUPING);
+        boolean exponent = options.contains(ParseOption.EXPONENT);
+        BigRational plain = plain(s, offset, offset + length);
+        return plain != null ? plain : new Scanner(s, offset, offset + length, grouping, exponent).rational();
+    }
 
-        if (input.isEmpty()) {
-            throw new IllegalArgumentException("empty input");
-        } else if (input.indexOf(',') >= 0) {
-            throw new IllegalArgumentException("commas are not supported: " + s);
-        } else if (input.indexOf('e') >= 0 || input.indexOf('E') >= 0) {
-            throw new IllegalArgumentException("scientific notation is not supported: " + s);
+    // the usual shape of an amount, [+-]digits('.'digits)? with at most 18 digits, parsed without a Scanner so that the
+    // result is the only allocation; null for anything else, valid or not, which the Scanner then parses or rejects
+    private static @Nullable BigRational plain(CharSequence s, int from, int to) {
+        while (from < to && s.charAt(from) <= ' ') {
+            from++;
+        }
+        while (to > from && s.charAt(to - 1) <= ' ') {
+            to--;
+        }
+        if (from == to) {
+            return null;
         }
+        boolean negative = s.charAt(from) == '-';
+        if (negative || s.charAt(from) == '+') {
+            from++;
+        }
+        long acc = 0;
+        int digits = 0;
+        int fractionDigits = -1;
+        for (int i = from; i < to; i++) {
+            char c = s.charAt(i);
+            if (c >= '0' && c <= '9') {
+                if (++digits > LONG_DIGITS) {
+                    return null;
+                }
+                acc = acc * 10 + (c - '0');
+                if (fractionDigits >= 0) {
+                    fractionDigits++;
+                }
+            } else if (c == '.' && fractionDigits < 0 && digits > 0) {
+                fractionDigits = 0;
+            } else {
+                return null;
+            }
+        }
+        if (digits == 0 || fractionDigits == 0) {
+            return null;
+        }
+        return BigRational.ofUnscaled(negative ? -acc : acc, Math.max(fractionDigits, 0));
+    }
+
+    private static final class Scanner {
+
+        private final CharSequence s;
+        private final int offset;
+        private final int end;
+        private final boolean grouping;
+        private final boolean exponent;
 
-        int slash = input.indexOf('/');
-        if (slash < 0) {
-            return parsePlainNumber(input, s);
-        } else if (slash != input.lastIndexOf('/')) {
-            throw new IllegalArgumentException("invalid rational (too many '/'): " + s);
+        private int pos;
+        private int limit;
+
+        // digits of the current number: the last accDigits of them in acc, the ones before in big
+        private long acc;
+        private int accDigits;
+        private @Nullable BigInteger big;
+
+        Scanner(CharSequence s, int offset, int end, boolean grouping, boolean exponent) {
+            this.s = s;
+            this.offset = offset;
+            this.end = end;
+            this.grouping = grouping;
+            this.exponent = exponent;
         }
 
-        String left = input.substring(0, slash).trim();
-        String right = input.substring(slash + 1).trim();
+        BigRational rational() {
+            pos = offset;
+            limit = end;
+            while (pos < limit && s.charAt(pos) <= ' ') {
+                pos++;
+            }
+            while (limit > pos && s.charAt(limit - 1) <= ' ') {
+                limit--;
+            }
+            if (pos == limit || s.charAt(pos) == '/') {
+                throw invalid();
+            }
+
+            BigRational numerator = number();
+            skipWhitespace();
+            if (pos == limit) {
+                return numerator;
+            }
+            // number() only stops at whitespace, '/' or the end
+            if (s.charAt(pos) != '/') {
+                throw invalid();
+            }
+            pos++;
+            skipWhitespace();
+            if (pos == limit) {
+                throw invalid();
+            }
 
-        if (left.isEmpty() || right.isEmpty()) {
-            throw new IllegalArgumentException("invalid rational (missing numerator/denominator): " + s);
+            BigRational denominator = number();
+            skipWhitespace();
+            if (pos < limit) {
+                throw invalid();
+            }
+            return numerator.divide(denominator);
         }
 
-        return parsePlainNumber(left, s).divide(parsePlainNumber(right, s));
-    }
+        // [+-]? digits ('.' digits)? ('e' [+-]? digits)?, with grouping separators between integer digits if enabled
+        private BigRational number() {
+            acc = 0;
+            accDigits = 0;
+            big = null;
+
+            char c = s.charAt(pos);
+            boolean negative = c == '-';
+            if (c == '-' || c == '+') {
+                pos++;
+            }
+
+            int integerDigits = 0;
+            while (pos < limit) {
+                c = s.charAt(pos);
+                if (isDigit(c)) {
+                    digit(c);
+                    integerDigits++;
+                } else if (!isSeparator(c, integerDigits)) {
+                    break;
+                }
+                pos++;
+            }
+            if (integerDigits == 0) {
+                throw invalid();
+            }
+
+            int fractionDigits = 0;
+            if (pos < limit && s.charAt(pos) == '.') {
+                pos++;
+                while (pos < limit && isDigit(c = s.charAt(pos))) {
+                    digit(c);
+                    fractionDigits++;
+                    pos++;
+                }
+                if (fractionDigits == 0) {
+                    throw invalid();
+                }
+            }
+
+            int exp = 0;
+            if (pos < limit && (s.charAt(pos) == 'e' || s.charAt(pos) == 'E')) {
+                if (!exponent) {
+                    throw invalid();
+                }
+                exp = exponent();
+            }
+
+            if (pos < limit && s.charAt(pos) > ' ' && s.charAt(pos) != '/') {
+                throw invalid();
+            }
+
+            int scale = fractionDigits - exp;
+            if (big == null) {
+                long unscaled = negative ? -acc : acc;
+                return scale >= 0
+                  ? BigRational.ofUnscaled(unscaled, scale)
+                  : BigRational.ofUnscaled(BigInteger.valueOf(unscaled).multiply(PowersOfTen.bigInteger(-scale)), 0);
+            }
+            BigInteger unscaled = big.multiply(PowersOfTen.bigInteger(accDigits)).add(BigInteger.valueOf(acc));
+            if (negative) {
+                unscaled = unscaled.negate();
+            }
+            return scale >= 0
+              ? BigRational.ofUnscaled(unscaled, scale)
+              : BigRational.ofUnscaled(unscaled.multiply(PowersOfTen.bigInteger(-scale)), 0);
+        }
+
+        private int exponent() {
+            pos++;
+            boolean negative = pos < limit && s.charAt(pos) == '-';
+            if (pos < limit && (s.charAt(pos) == '-' || s.charAt(pos) == '+')) {
+                pos++;
+            }
+            int digits = 0;
+            int exp = 0;
+            char c;
+            while (pos < limit && isDigit(c = s.charAt(pos))) {
+                exp = exp * 10 + (c - '0');
+                if (exp > MAX_EXPONENT) {
+                    throw new IllegalArgumentException("exponent out of range (max " + MAX_EXPONENT + "): " + original());
+                }
+                digits++;
+                pos++;
+            }
+            if (digits == 0) {
+                throw invalid();
+            }
+            return negative ? -exp : exp;
+        }
+
+        private void digit(char c) {
+            if (accDigits == LONG_DIGITS) {
+                BigInteger chunk = BigInteger.valueOf(acc);
+                big = big == null ? chunk : big.multiply(PowersOfTen.bigInteger(LONG_DIGITS)).add(chunk);
+                acc = 0;
+                accDigits = 0;
+            }
+            acc = acc * 10 + (c - '0');
+            accDigits++;
+        }
+
+        // a grouping separator is only skipped between two integer digits
+        private boolean isSeparator(char c, int digitsBefore) {
+            return grouping && (c == ',' || c == '_') && digitsBefore > 0 && pos + 1 < limit && isDigit(s.charAt(pos + 1));
+        }
+
+        private void skipWhitespace() {
+            while (pos < limit && s.charAt(pos) <= ' ') {
+                pos++;
+            }
+        }
+
+        // only called once the input is known to be invalid: words the error like the original regex-based parser, by
+        // checking the whole input in the same order (commas, exponents, slashes, then each part)
+        private IllegalArgumentException invalid() {
+            int from = skipWhitespace(offset, end);
+            int to = trimEnd(from, end);
+            if (from == to) {
+                return new IllegalArgumentException("empty input");
+            } else if (!grouping && indexOf(',', from, to) >= 0) {
+                return new IllegalArgumentException("commas are not supported: " + original());
+            } else if (!exponent && (indexOf('e', from, to) >= 0 || indexOf('E', from, to) >= 0)) {
+                return new IllegalArgumentException("scientific notation is not supported: " + original());
+            }
+            int slash = indexOf('/', from, to);
+            if (slash < 0) {
+                return invalidNumber(from, to);
+            } else if (indexOf('/', slash + 1, to) >= 0) {
+                return new IllegalArgumentException("invalid rational (too many '/'): " + original());
+            }
+            int leftEnd = trimEnd(from, slash);
+            int rightStart = skipWhitespace(slash + 1, to);
+            if (leftEnd == from || rightStart == to) {
+                return new IllegalArgumentException("invalid rational (missing numerator/denominator): " + original());
+            }
+            return isNumber(from, leftEnd) ? invalidNumber(rightStart, to) : invalidNumber(from, leftEnd);
+        }
+
+        private IllegalArgumentException invalidNumber(int from, int to) {
+            var part = s.subSequence(from, to);
+            return new IllegalArgumentException("invalid number: '" + part + "' (from: " + original() + ")");
+        }
+
+        // the syntax number() accepts, without parsing
+        private boolean isNumber(int from, int to) {
+            int i = from;
+            if (i < to && (s.charAt(i) == '+' || s.charAt(i) == '-')) {
+                i++;
+            }
+            int integerDigits = 0;
+            for (char c; i < to; i++) {
+                c = s.charAt(i);
+                if (isDigit(c)) {
+                    integerDigits++;
+                } else if (!(grouping && (c == ',' || c == '_') && integerDigits > 0 && i + 1 < to && isDigit(s.charAt(i + 1)))) {
+                    break;
+                }
+            }
+            if (integerDigits == 0) {
+                return false;
+            }
+            if (i < to && s.charAt(i) == '.') {
+                int fractionDigits = 0;
+                for (i++; i < to && isDigit(s.charAt(i)); i++) {
+                    fractionDigits++;
+                }
+                if (fractionDigits == 0) {
+                    return false;
+                }
+            }
+            if (exponent && i < to && (s.charAt(i) == 'e' || s.charAt(i) == 'E')) {
+                i++;
+                if (i < to && (s.charAt(i) == '+' || s.charAt(i) == '-')) {
+                    i++;
+                }
+                int exponentDigits = 0;
+                for (; i < to && isDigit(s.charAt(i)); i++) {
+                    exponentDigits++;
+                }
+                if (exponentDigits == 0) {
+                    return false;
+                }
+            }
+            return i == to;
+        }
+
+        private int indexOf(char c, int from, int to) {
+            for (int i = from; i < to; i++) {
+                if (s.charAt(i) == c) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private int skipWhitespace(int from, int to) {
+            while (from < to && s.charAt(from) <= ' ') {
+                from++;
+            }
+            return from;
+        }
+
+        private int trimEnd(int from, int to) {
+            while (to > from && s.charAt(to - 1) <= ' ') {
+                to--;
+            }
+            return to;
+        }
+
+        private String original() {
+            return s.subSequence(offset, end).toString();
+        }
 
-    private static BigRational parsePlainNumber(String part, String original) {
-        if (!PLAIN_NUMBER.matcher(part).matches()) {
-            throw new IllegalArgumentException("invalid number: '" + part + "' (from: " + original + ")");
+        private static boolean isDigit(char c) {
+            return c >= '0' && c <= '9';
         }
-        return part.indexOf('.') >= 0
-          ? BigRational.of(new BigDecimal(part))
-          : BigRational.of(new BigInteger(part), BigInteger.ONE);
     }
 }
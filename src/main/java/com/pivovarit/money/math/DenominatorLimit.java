@@ -0,0 +1,33 @@
+package com.pivovarit.money.math;
+
+import java.math.BigInteger;
+import java.util.Objects;
+
+/**
+ * Precision bound for long chains of multiplications and divisions, whose exact denominators (and with them operand
+ * sizes and latency) would otherwise grow without bound: values with a denominator above {@code max} are replaced by
+ * their best rational approximation within it, see {@link BigRational#limitDenominator(BigInteger)}.
+ * <p>
+ * {@code BoundedMoney} and {@code BoundedConversionRate} carry a limit and apply it to the result of every operation;
+ * the overloads of {@code Money} and {@code ConversionRate} taking one apply it to a single result.
+ */
+public record DenominatorLimit(BigInteger max) {
+    public DenominatorLimit {
+        Objects.requireNonNull(max, "max");
+        if (max.signum() <= 0) {
+            throw new IllegalArgumentException("max must be > 0");
+        }
+    }
+
+    public static DenominatorLimit of(long max) {
+        return new DenominatorLimit(BigInteger.valueOf(max));
+    }
+
+    public Approximation<BigRational> apply(BigRational value) {
+        Objects.requireNonNull(value, "value");
+        BigRational limited = max.bitLength() < Long.SIZE
+          ? value.limitDenominator(max.longValue())
+          : value.limitDenominator(max);
+        return new Approximation<>(limited, value.subtract(limited));
+    }
+}
@@ -0,0 +1,10 @@
+package com.pivovarit.money.math;
+
+/**
+ * Opt-in syntax for {@link BigRational#of(CharSequence, int, int, java.util.Set)}: {@code GROUPING} accepts {@code ,}
+ * and {@code _} between integer digits ({@code 1,000,000.50}), {@code EXPONENT} accepts a decimal exponent
+ * ({@code 1.5e-3}).
+ */
+public enum ParseOption {
+    GROUPING, EXPONENT
+}
@@ -0,0 +1,72 @@
+package com.pivovarit.money.math;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+
+/**
+ * Powers of ten shared by every decimal conversion: exact {@code long}s up to {@code 10^18} and a lazily extended
+ * {@link BigInteger} table beyond that, so that converting an amount never recomputes {@code BigInteger.TEN.pow(k)}.
+ */
+final class PowersOfTen {
+
+    static final int MAX_LONG_EXPONENT = 18;
+
+    // exponents past this are computed on demand instead of pinning ever larger numbers in memory
+    static final int MAX_CACHED_EXPONENT = 1024;
+
+    private static final long[] LONGS = {
+      1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L, 1_000_000_000L,
+      10_000_000_000L, 100_000_000_000L, 1_000_000_000_000L, 10_000_000_000_000L, 100_000_000_000_000L,
+      1_000_000_000_000_000L, 10_000_000_000_000_000L, 100_000_000_000_000_000L, 1_000_000_000_000_000_000L
+    };
+
+    // copy-on-write, readers never lock; a racing reader at worst sees a shorter table and extends it itself
+    private static volatile BigInteger[] bigIntegers = initial();
+
+    private PowersOfTen() {
+    }
+
+    static long longValue(int exponent) {
+        return LONGS[exponent];
+    }
+
+    /**
+     * Returns {@code k} if {@code value == 10^k}, or a negative number otherwise.
+     */
+    static int exponentOf(long value) {
+        return Arrays.binarySearch(LONGS, value);
+    }
+
+    static BigInteger bigInteger(int exponent) {
+        BigInteger[] table = bigIntegers;
+        if (exponent < table.length) {
+            return table[exponent];
+        } else if (exponent > MAX_CACHED_EXPONENT) {
+            BigInteger[] full = extend(MAX_CACHED_EXPONENT);
+            return full[MAX_CACHED_EXPONENT].multiply(BigInteger.TEN.pow(exponent - MAX_CACHED_EXPONENT));
+        }
+        return extend(exponent)[exponent];
+    }
+
+    private static synchronized BigInteger[] extend(int exponent) {
+        BigInteger[] table = bigIntegers;
+        if (exponent < table.length) {
+            return table;
+        }
+        int length = Math.min(Math.max(exponent + 1, 2 * table.length), MAX_CACHED_EXPONENT + 1);
+        BigInteger[] extended = Arrays.copyOf(table, length);
+        for (int i = table.length; i < length; i++) {
+            extended[i] = extended[i - 1].multiply(BigInteger.TEN);
+        }
+        bigIntegers = extended;
+        return extended;
+    }
+
+    private static BigInteger[] initial() {
+        BigInteger[] table = new BigInteger[2 * (MAX_LONG_EXPONENT + 1)];
+        for (int i = 0; i < table.length; i++) {
+            table[i] = i <= MAX_LONG_EXPONENT ? BigInteger.valueOf(LONGS[i]) : table[i - 1].multiply(BigInteger.TEN);
+        }
+        return table;
+    }
+}
@@ -0,0 +1,130 @@
+package com.pivovarit.money.math;
+
+import java.math.BigInteger;
+import java.util.Objects;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Mutable running sum of {@link BigRational}s over a common denominator.
+ * <p>
+ * Addends are brought to the running denominator (the lcm of all denominators seen so far) and added to the running
+ * numerator without any intermediate reduction or allocation while the terms fit a {@code long}; the sum is reduced
+ * once, by {@link #result()}. Not thread-safe.
+ */
+public final class RationalAccumulator {
+
+    private long num;
+    private long den = 1;
+
+    // non-null once the running terms no longer fit the long ones, which are then ignored
+    private @Nullable BigInteger bigNum;
+    private @Nullable BigInteger bigDen;
+
+    public RationalAccumulator() {
+    }
+
+    public RationalAccumulator add(BigRational addend) {
+        Objects.requireNonNull(addend, "addend");
+        return accumulate(addend, false);
+    }
+
+    public RationalAccumulator subtract(BigRational subtrahend) {
+        Objects.requireNonNull(subtrahend, "subtrahend");
+        return accumulate(subtrahend, true);
+    }
+
+    /**
+     * Adds the running sum of {@code other} (left unchanged). The running denominator is the lcm of every denominator
+     * seen, so combining partial sums yields the same result as accumulating the addends one by one, in any order.
+     */
+    public RationalAccumulator add(RationalAccumulator other) {
+        Objects.requireNonNull(other, "other");
+        if (bigNum == null && other.bigNum == null && addSmall(other.num, other.den)) {
+            return this;
+        }
+        addLarge(
+          other.bigNum != null ? other.bigNum : BigInteger.valueOf(other.num),
+          other.bigDen != null ? other.bigDen : BigInteger.valueOf(other.den));
+        return this;
+    }
+
+    public BigRational result() {
+        if (bigNum == null) {
+            return BigRational.of(num, den);
+        }
+        // same result whether or not an intermediate overflow promoted the running terms
+        return bigDen.bitLength() < Long.SIZE && bigNum.bitLength() < Long.SIZE
+          ? BigRational.of(bigNum.longValue(), bigDen.longValue())
+          : BigRational.of(bigNum, bigDen);
+    }
+
+    private RationalAccumulator accumulate(BigRational x, boolean subtract) {
+        if (bigNum == null && x.isSmall()) {
+            // small terms never hold Long.MIN_VALUE, so negating them is safe
+            long n = subtract ? -x.smallNumerator() : x.smallNumerator();
+            if (addSmall(n, x.smallDenominator())) {
+                return this;
+            }
+        }
+        BigInteger n = subtract ? x.rawNumerator().negate() : x.rawNumerator();
+        addLarge(n, x.rawDenominator());
+        return this;
+    }
+
+    // false (and nothing changed) if the running terms would overflow
+    private boolean addSmall(long n, long d) {
+        long scaledNum;
+        long scaledN;
+        long newDen;
+        if (d == den) {
+            scaledNum = num;
+            scaledN = n;
+            newDen = den;
+        } else if (den % d == 0) {
+            long f = den / d;
+            if (BigRational.overflows(n, f)) {
+                return false;
+            }
+            scaledNum = num;
+            scaledN = n * f;
+            newDen = den;
+        } else {
+            long g = BigRational.gcd(den, d);
+            long fNum = d / g;
+            long fN = den / g;
+            if (BigRational.overflows(den, fNum) || BigRational.overflows(num, fNum) || BigRational.overflows(n, fN)) {
+                return false;
+            }
+            scaledNum = num * fNum;
+            scaledN = n * fN;
+            newDen = den * fNum;
+        }
+        long sum = scaledNum + scaledN;
+        if (((scaledNum ^ sum) & (scaledN ^ sum)) < 0 || sum == Long.MIN_VALUE) {
+            return false;
+        }
+        num = sum;
+        den = newDen;
+        return true;
+    }
+
+    private void addLarge(BigInteger n, BigInteger d) {
+        BigInteger runningNum = bigNum != null ? bigNum : BigInteger.valueOf(num);
+        BigInteger runningDen = bigDen != null ? bigDen : BigInteger.valueOf(den);
+        if (d.equals(runningDen)) {
+            bigNum = runningNum.add(n);
+            bigDen = runningDen;
+            return;
+        }
+        BigInteger[] qr = runningDen.divideAndRemainder(d);
+        if (qr[1].signum() == 0) {
+            bigNum = runningNum.add(n.multiply(qr[0]));
+            bigDen = runningDen;
+            return;
+        }
+        BigInteger g = runningDen.gcd(d);
+        BigInteger f = d.divide(g);
+        bigNum = runningNum.multiply(f).add(n.multiply(runningDen.divide(g)));
+        bigDen = runningDen.multiply(f);
+    }
+}
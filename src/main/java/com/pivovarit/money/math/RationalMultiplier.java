@@ -0,0 +1,99 @@
+package com.pivovarit.money.math;
+
+import java.math.BigInteger;
+import java.util.Objects;
+
+/**
+ * A fixed factor prepared for multiplying many values, e.g. one exchange rate applied to a whole portfolio.
+ * <p>
+ * The factor's lowest terms {@code p / q} are split once against every power of ten a decimal operand can carry, so a
+ * decimal {@code u / 10^k} is multiplied with one {@code long} gcd, one multiplication and one division instead of
+ * reducing both operands first; {@link #multiplyToLong(long, Rounding)} is a single multiply-and-divide. Operands or
+ * results outside the {@code long} range fall back to {@link BigRational#multiply(BigRational)}, with identical results.
+ */
+public final class RationalMultiplier {
+
+    private final BigRational factor;
+
+    // the factor in lowest terms if both terms fit a long, q = 0 otherwise
+    private final long p;
+    private final long q;
+
+    // per operand scale k: p / gcd(p, 10^k) and q * 10^k / gcd(p, 10^k), 0 where the latter overflows
+    private final long[] numerators = new long[PowersOfTen.MAX_LONG_EXPONENT + 1];
+    private final long[] denominators = new long[PowersOfTen.MAX_LONG_EXPONENT + 1];
+
+    private RationalMultiplier(BigRational factor) {
+        this.factor = factor;
+        BigInteger n = factor.numerator();
+        BigInteger d = factor.denominator();
+        boolean small = n.bitLength() < Long.SIZE && d.bitLength() < Long.SIZE;
+        this.p = small ? n.longValue() : 0;
+        this.q = small ? d.longValue() : 0;
+        // decimal factors already multiply decimals without a gcd
+        if (small && factor.decimalScale() < 0) {
+            for (int k = 0; k < numerators.length; k++) {
+                long ten = PowersOfTen.longValue(k);
+                long g = BigRational.gcd(Math.abs(p), ten);
+                if (!BigRational.overflows(q, ten / g)) {
+                    numerators[k] = p / g;
+                    denominators[k] = q * (ten / g);
+                }
+            }
+        }
+    }
+
+    public static RationalMultiplier of(BigRational factor) {
+        Objects.requireNonNull(factor, "factor");
+        return new RationalMultiplier(factor);
+    }
+
+    public BigRational factor() {
+        return factor;
+    }
+
+    /**
+     * {@code x * factor()}, equal to {@code x.multiply(factor())}.
+     */
+    public BigRational multiply(BigRational x) {
+        Objects.requireNonNull(x, "x");
+        int k = x.decimalScale();
+        long d = k >= 0 && k < denominators.length ? denominators[k] : 0;
+        if (d == 0) {
+            return x.multiply(factor);
+        }
+        long u = x.unscaledValue();
+        if (u == 0) {
+            return BigRational.ZERO;
+        }
+        // p / d is already in lowest terms, so only u can share factors with d
+        long g = BigRational.gcd(Math.abs(u), d);
+        long n = numerators[k];
+        u /= g;
+        if (BigRational.overflows(u, n) || u * n == Long.MIN_VALUE) {
+            return x.multiply(factor);
+        }
+        return BigRational.ofReduced(u * n, d / g);
+    }
+
+    /**
+     * {@code x * factor()} rounded to an integer.
+     *
+     * @throws ArithmeticException if the result does not fit a {@code long}
+     */
+    public long multiplyToLong(long x, Rounding rounding) {
+        Objects.requireNonNull(rounding, "rounding");
+        if (q == 0 || BigRational.overflows(x, p)) {
+            return BigRational.of(x).multiply(factor).toUnscaledLong(0, rounding);
+        }
+        long n = x * p;
+        long quotient = n / q;
+        long r = n % q;
+        return quotient + BigRational.roundingStep(rounding, Long.signum(r), Long.compare(Math.abs(r), q - Math.abs(r)), (quotient & 1) != 0);
+    }
+
+    @Override
+    public String toString() {
+        return "RationalMultiplier[" + factor + "]";
+    }
+}
@@ -0,0 +1,71 @@
+package com.pivovarit.money.math;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for {@link BigRational} arithmetic on wide values: recorded when an operand or the result reaches
+ * {@code com.pivovarit.money.jfr.bitLengthThreshold} bits (numerator and denominator combined, 1024 by default) and
+ * the operation takes at least the event's JFR {@code threshold} setting. Operations on two {@code long}-sized values
+ * never create the event unless the bit length threshold is 256 or lower.
+ */
+@Name("com.pivovarit.money.RationalOperation")
+@Label("Rational Operation")
+@Category({"Money", "BigRational"})
+@Description("BigRational arithmetic with wide operands or results")
+@StackTrace
+final class RationalOperationEvent extends Event {
+
+    static final int BIT_LENGTH_THRESHOLD = Math.max(0, Integer.getInteger("com.pivovarit.money.jfr.bitLengthThreshold", 1024));
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Left Bit Length")
+    int leftBitLength;
+
+    @Label("Right Bit Length")
+    int rightBitLength;
+
+    @Label("Result Bit Length")
+    int resultBitLength;
+
+    @Label("GCD")
+    @Description("Whether the result was reduced to lowest terms with a gcd")
+    boolean gcd;
+
+    private static final EventType TYPE = EventType.getEventType(RationalOperationEvent.class);
+
+    static boolean enabled() {
+        return TYPE.isEnabled();
+    }
+
+    static RationalOperationEvent start() {
+        var event = new RationalOperationEvent();
+        event.begin();
+        return event;
+    }
+
+    static BigRational commit(RationalOperationEvent event, String operation, BigRational x, BigRational y, BigRational result, boolean gcd) {
+        event.end();
+        if (event.isEnabled()) {
+            int left = x.bitLength();
+            int right = y.bitLength();
+            int bits = result.bitLength();
+            if (Math.max(bits, Math.max(left, right)) >= BIT_LENGTH_THRESHOLD && event.shouldCommit()) {
+                event.operation = operation;
+                event.leftBitLength = left;
+                event.rightBitLength = right;
+                event.resultBitLength = bits;
+                event.gcd = gcd;
+                event.commit();
+            }
+        }
+        return result;
+    }
+}
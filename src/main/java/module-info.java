@@ -6,5 +6,7 @@ module com.pivovarit.money {
     exports com.pivovarit.money.currency;
     exports com.pivovarit.money.math;
 
+    requires jdk.jfr;
+    requires static jdk.incubator.vector;
     requires static org.jspecify;
 }
@@ -0,0 +1,38 @@
+package com.pivovarit.money;
+
+import com.pivovarit.money.currency.TypedCurrency;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AsciiAmountParserTest {
+
+    private static final byte[] ROW = "  12.50|1200|0.125".getBytes(StandardCharsets.US_ASCII);
+
+    @Test
+    void shouldParseMinorUnitsOfCurrency() {
+        assertThat(AsciiAmountParser.parseMinorUnits(ROW, 0, 7, TypedCurrency.EUR)).isEqualTo(1250L);
+        assertThat(AsciiAmountParser.parseMinorUnits(ROW, 8, 4, TypedCurrency.from("JPY"))).isEqualTo(1200L);
+        assertThat(AsciiAmountParser.parseMinorUnits(ROW, 13, 5, TypedCurrency.from("BHD"))).isEqualTo(125L);
+    }
+
+    @Test
+    void shouldParseMoney() {
+        assertThat(AsciiAmountParser.parse(ROW, 0, 7, TypedCurrency.EUR)).isEqualTo(Money.from("12.5", TypedCurrency.EUR));
+    }
+
+    @Test
+    void shouldRejectAmountsFinerThanMinorUnits() {
+        assertThatThrownBy(() -> AsciiAmountParser.parseMinorUnits(ROW, 13, 5, TypedCurrency.USD))
+          .isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    void shouldRejectCurrenciesWithoutMinorUnits() {
+        assertThatThrownBy(() -> AsciiAmountParser.parseMinorUnits(ROW, 8, 4, TypedCurrency.from("XAU")))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessageContaining("no minor units");
+    }
+}
@@ -0,0 +1,93 @@
+package com.pivovarit.money;
+
+import com.pivovarit.money.currency.EUR;
+import com.pivovarit.money.currency.TypedCurrency;
+import com.pivovarit.money.math.BigRational;
+import com.pivovarit.money.math.Rounding;
+import java.math.BigDecimal;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FastMoneyTest {
+
+    @Test
+    void shouldStoreMinorUnitsOfCurrency() {
+        assertThat(FastMoney.from("12.5", TypedCurrency.EUR).minorUnits()).isEqualTo(1250L);
+        assertThat(FastMoney.from("1200", TypedCurrency.from("JPY")).minorUnits()).isEqualTo(1200L);
+        assertThat(FastMoney.from("0.125", TypedCurrency.from("BHD")).minorUnits()).isEqualTo(125L);
+        assertThat(FastMoney.ofMinor(-5, TypedCurrency.EUR).toString()).isEqualTo("-0.05 EUR");
+    }
+
+    @Test
+    void shouldConvertToAndFromMoneyLosslessly() {
+        var money = Money.from("-1234.56", TypedCurrency.EUR);
+
+        var fast = FastMoney.from(money);
+
+        assertThat(fast.toMoney()).isEqualTo(money);
+        assertThat(fast.toBigDecimal()).isEqualTo(new BigDecimal("-1234.56"));
+        assertThat(FastMoney.from(Money.from(BigRational.of(1, 3), TypedCurrency.EUR), Rounding.HALF_UP).minorUnits()).isEqualTo(33L);
+        for (long minorUnits : new long[]{Long.MAX_VALUE, Long.MIN_VALUE, 0}) {
+            var extreme = FastMoney.ofMinor(minorUnits, TypedCurrency.EUR);
+            assertThat(extreme.toMoney()).isEqualTo(Money.from(extreme.toBigDecimal(), TypedCurrency.EUR));
+            assertThat(FastMoney.from(extreme.toMoney())).isEqualTo(extreme);
+        }
+    }
+
+    @Test
+    void shouldRejectAmountsFinerThanMinorUnits() {
+        assertThatThrownBy(() -> FastMoney.from(Money.from("0.005", TypedCurrency.EUR)))
+          .isInstanceOf(ArithmeticException.class)
+          .hasMessageContaining("rounding necessary");
+        assertThatThrownBy(() -> FastMoney.from(Money.from(BigRational.of(1, 3), TypedCurrency.EUR)))
+          .isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> FastMoney.ofMinor(1, TypedCurrency.from("XAU")))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessage("currency has no minor units: XAU");
+    }
+
+    @Test
+    void shouldDoExactArithmetic() {
+        var a = FastMoney.from("10.25", TypedCurrency.EUR);
+        var b = FastMoney.from("0.75", TypedCurrency.EUR);
+
+        assertThat(a.add(b)).isEqualTo(FastMoney.ofMinor(1100, TypedCurrency.EUR));
+        assertThat(a.subtract(b)).isEqualTo(FastMoney.ofMinor(950, TypedCurrency.EUR));
+        assertThat(b.multiply(3)).isEqualTo(FastMoney.ofMinor(225, TypedCurrency.EUR));
+        assertThat(b.negate().abs()).isEqualTo(b);
+        assertThat(a.compareTo(b)).isPositive();
+    }
+
+    @Test
+    void shouldThrowOnOverflow() {
+        var max = FastMoney.ofMinor(Long.MAX_VALUE, TypedCurrency.EUR);
+
+        assertThatThrownBy(() -> max.add(FastMoney.ofMinor(1, TypedCurrency.EUR))).isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> max.negate().subtract(FastMoney.ofMinor(2, TypedCurrency.EUR))).isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> max.multiply(2)).isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> FastMoney.ofMinor(Long.MIN_VALUE, TypedCurrency.EUR).negate()).isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> FastMoney.from(Money.from("92233720368547758.08", TypedCurrency.EUR))).isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    void shouldPromoteInexactOperationsToMoney() {
+        FastMoney<EUR> amount = FastMoney.from("10.00", TypedCurrency.EUR);
+        var rate = ConversionRate.from("4.31872", TypedCurrency.EUR, TypedCurrency.PLN);
+
+        assertThat(amount.divide(3)).isEqualTo(Money.from(BigRational.of(10, 3), TypedCurrency.EUR));
+        assertThat(amount.multiply(BigRational.of("1.0725"))).isEqualTo(Money.from("10.725", TypedCurrency.EUR));
+        assertThat(amount.convert(rate)).isEqualTo(Money.from("43.1872", TypedCurrency.PLN));
+    }
+
+    @Test
+    void shouldRejectMixedCurrencies() {
+        FastMoney<TypedCurrency> eur = FastMoney.from("1", TypedCurrency.from("EUR"));
+        FastMoney<TypedCurrency> usd = FastMoney.from("1", TypedCurrency.from("USD"));
+
+        assertThatThrownBy(() -> eur.add(usd))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessage("Currency mismatch: EUR vs USD");
+    }
+}
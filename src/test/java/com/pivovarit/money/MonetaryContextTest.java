@@ -0,0 +1,75 @@
+package com.pivovarit.money;
+
+import com.pivovarit.money.currency.CurrencyRegistry;
+import com.pivovarit.money.currency.TypedCurrency;
+import com.pivovarit.money.math.BigRational;
+import com.pivovarit.money.math.Rounding;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Currency;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MonetaryContextTest {
+
+    @Test
+    void shouldPrecomputeScaleOfEveryCurrency() {
+        for (TypedCurrency currency : CurrencyRegistry.currencies()) {
+            var context = MonetaryContext.of(currency);
+            int digits = currency.currency().getDefaultFractionDigits();
+
+            assertThat(context.currency()).isSameAs(currency);
+            assertThat(context.fractionDigits()).isEqualTo(digits);
+            assertThat(context.scaleFactor()).isEqualTo(BigInteger.TEN.pow(Math.max(digits, 0)).longValueExact());
+        }
+        assertThat(MonetaryContext.of(new TypedCurrency.ISOCurrency(Currency.getInstance("JPY"))))
+          .isSameAs(MonetaryContext.of(TypedCurrency.from("JPY")));
+    }
+
+    @Test
+    void shouldRoundLikeMoney() {
+        var context = MonetaryContext.of(TypedCurrency.from("BHD"));
+        var amount = BigRational.of(2).divide(BigRational.of(3));
+
+        assertThat(context.round(amount, Rounding.HALF_UP)).isEqualTo(Money.from(amount, TypedCurrency.from("BHD")).toDecimal());
+        assertThat(context.toMinorUnits(amount, Rounding.FLOOR)).isEqualTo(666L);
+        assertThatThrownBy(() -> MonetaryContext.of(TypedCurrency.from("XAU")).round(amount, Rounding.HALF_UP))
+          .isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    void shouldRoundToCashIncrementInOneStep() {
+        var chf = MonetaryContext.of(TypedCurrency.CHF);
+        var sek = MonetaryContext.of(TypedCurrency.from("SEK"));
+
+        assertThat(chf.cashIncrement()).isEqualTo(5L);
+        assertThat(MonetaryContext.of(TypedCurrency.EUR).cashIncrement()).isEqualTo(1L);
+        assertThat(chf.roundToCash(BigRational.of("1.025"), Rounding.HALF_UP).value()).isEqualTo(new BigDecimal("1.05"));
+        assertThat(chf.roundToCash(BigRational.of("1.0249"), Rounding.HALF_UP).value()).isEqualTo(new BigDecimal("1.00"));
+        assertThat(chf.roundToCash(BigRational.of("-1.0249"), Rounding.HALF_UP).residual()).isEqualTo(BigRational.of("-0.0249"));
+        // rounding to 10.50 first would tie and round up to 11
+        assertThat(sek.roundToCash(BigRational.of("10.495"), Rounding.HALF_UP).value()).isEqualTo(new BigDecimal("10.00"));
+        assertThat(MonetaryContext.of(TypedCurrency.EUR).roundToCash(BigRational.of("1.005"), Rounding.HALF_EVEN).value())
+          .isEqualTo(new BigDecimal("1.00"));
+    }
+
+    @Test
+    void shouldRoundMinorUnitsToCashIncrement() {
+        var chf = MonetaryContext.of(TypedCurrency.CHF);
+        var dkk = MonetaryContext.of(TypedCurrency.from("DKK"));
+
+        assertThat(chf.roundToCash(102, Rounding.HALF_UP)).isEqualTo(100L);
+        assertThat(chf.roundToCash(103, Rounding.HALF_UP)).isEqualTo(105L);
+        assertThat(chf.roundToCash(-103, Rounding.HALF_UP)).isEqualTo(-105L);
+        assertThat(chf.roundToCash(101, Rounding.CEIL)).isEqualTo(105L);
+        assertThat(chf.roundToCash(-101, Rounding.FLOOR)).isEqualTo(-105L);
+        assertThat(chf.roundToCash(-104, Rounding.CEIL)).isEqualTo(-100L);
+        assertThat(dkk.roundToCash(25, Rounding.HALF_UP)).isEqualTo(50L);
+        assertThat(dkk.roundToCash(25, Rounding.HALF_EVEN)).isEqualTo(0L);
+        assertThat(dkk.roundToCash(75, Rounding.HALF_EVEN)).isEqualTo(100L);
+        assertThat(dkk.roundToCash(-75, Rounding.HALF_EVEN)).isEqualTo(-100L);
+        assertThatThrownBy(() -> chf.roundToCash(Long.MAX_VALUE, Rounding.CEIL)).isInstanceOf(ArithmeticException.class);
+    }
+}
@@ -0,0 +1,37 @@
+package com.pivovarit.money;
+
+import com.pivovarit.money.currency.EUR;
+import com.pivovarit.money.currency.TypedCurrency;
+import com.pivovarit.money.math.BigRational;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MoneyAccumulatorTest {
+
+    @Test
+    void shouldSumExactly() {
+        MoneyAccumulator<EUR> accumulator = MoneyAccumulator.of(TypedCurrency.EUR);
+        for (int i = 0; i < 1000; i++) {
+            accumulator.add(Money.from("0.10", TypedCurrency.EUR));
+        }
+        accumulator.add(BigRational.of(1, 3)).subtract(Money.from("0.05", TypedCurrency.EUR));
+
+        assertThat(accumulator.result()).isEqualTo(Money.from(BigRational.of("99.95").add(BigRational.of(1, 3)), TypedCurrency.EUR));
+    }
+
+    @Test
+    void shouldReturnZeroWhenEmpty() {
+        assertThat(MoneyAccumulator.of(TypedCurrency.EUR).result()).isEqualTo(Money.from(BigRational.ZERO, TypedCurrency.EUR));
+    }
+
+    @Test
+    void shouldRejectCurrencyMismatch() {
+        var accumulator = MoneyAccumulator.of(TypedCurrency.from("EUR"));
+
+        assertThatThrownBy(() -> accumulator.add(Money.from("1", "USD")))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessageContaining("Currency mismatch");
+    }
+}
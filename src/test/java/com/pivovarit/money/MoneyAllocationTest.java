@@ -0,0 +1,119 @@
+package com.pivovarit.money;
+
+import com.pivovarit.money.currency.EUR;
+import com.pivovarit.money.currency.PLN;
+import com.pivovarit.money.currency.TypedCurrency;
+import com.pivovarit.money.math.BigRational;
+import com.pivovarit.money.math.Decimal;
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Allocation budgets (bytes per operation, as reported by {@link com.sun.management.ThreadMXBean}) for the hot
+ * {@code Money} paths on cent amounts. Each budget is a list of objects whose sizes are measured first, so the budgets
+ * follow the object layout of the running JVM (compressed oops and class pointers or not). The budgets hold without
+ * escape analysis, so they do not depend on the JIT; an operation allocating more than its budget means a new object
+ * on the path.
+ */
+class MoneyAllocationTest {
+
+    private static final int WARMUP = 20_000;
+    private static final int OPERATIONS = 20_000;
+
+    private static final Money<EUR> AMOUNT = Money.from("123.45", TypedCurrency.EUR);
+    private static final Money<EUR> ADDEND = Money.from("0.55", TypedCurrency.EUR);
+    private static final BigRational FACTOR = BigRational.of("1.0725");
+    private static final ConversionRate<EUR, PLN> RATE = ConversionRate.from("4.31872", TypedCurrency.EUR, TypedCurrency.PLN);
+
+    // keeps results reachable so that nothing is optimized away
+    private static volatile Object sink;
+    // distinct values, so that nothing comes from a cache of small values
+    private static long next = 1_000_000_007L;
+
+    private static long money;
+    private static long rational;
+    private static long decimal;
+    private static long bigDecimal;
+    private static long fastMoney;
+
+    @BeforeAll
+    static void measureObjectSizes() {
+        money = bytesPerOperation(() -> Money.from(BigRational.ONE, TypedCurrency.EUR));
+        rational = bytesPerOperation(() -> BigRational.of(next++));
+        decimal = bytesPerOperation(() -> new Decimal(BigDecimal.ONE, BigRational.ZERO));
+        bigDecimal = bytesPerOperation(() -> BigDecimal.valueOf(next++, 2));
+        fastMoney = bytesPerOperation(() -> FastMoney.ofMinor(next++, TypedCurrency.EUR));
+    }
+
+    @Test
+    void addShouldAllocateOnlyTheResult() {
+        // Money + BigRational
+        assertThat(bytesPerOperation(() -> AMOUNT.add(ADDEND))).isLessThanOrEqualTo(money + rational);
+    }
+
+    @Test
+    void multiplyShouldAllocateOnlyTheResult() {
+        assertThat(bytesPerOperation(() -> AMOUNT.multiply(FACTOR))).isLessThanOrEqualTo(money + rational);
+    }
+
+    @Test
+    void exchangeShouldAllocateOnlyTheResult() {
+        assertThat(bytesPerOperation(() -> RATE.exchange(AMOUNT))).isLessThanOrEqualTo(money + rational);
+    }
+
+    @Test
+    void parseShouldAllocateOnlyTheResult() {
+        var line = "EUR;1234.56;";
+        assertThat(bytesPerOperation(() -> BigRational.of("1234.56"))).isLessThanOrEqualTo(rational);
+        assertThat(bytesPerOperation(() -> BigRational.of(line, 4, 7))).isLessThanOrEqualTo(rational);
+    }
+
+    @Test
+    void toDecimalShouldNotComputeResidualForDecimalAmounts() {
+        // Decimal + BigDecimal
+        assertThat(bytesPerOperation(AMOUNT::toDecimal)).isLessThanOrEqualTo(decimal + bigDecimal);
+    }
+
+    @Test
+    void fastMoneyAddShouldAllocateAtMostTheResult() {
+        var amount = FastMoney.from(AMOUNT);
+        var addend = FastMoney.from(ADDEND);
+        assertThat(bytesPerOperation(() -> amount.add(addend))).isLessThanOrEqualTo(fastMoney);
+    }
+
+    @Test
+    void fastMoneyToMoneyShouldAllocateOnlyTheResult() {
+        var amount = FastMoney.from(AMOUNT);
+        assertThat(bytesPerOperation(amount::toMoney)).isLessThanOrEqualTo(money + rational);
+    }
+
+    @Test
+    void formatToShouldNotAllocate() {
+        var out = new StringBuilder(64);
+        assertThat(bytesPerOperation(() -> {
+            out.setLength(0);
+            return AMOUNT.formatTo(out);
+        })).isZero();
+    }
+
+    private static long bytesPerOperation(Supplier<?> operation) {
+        var threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled(), "thread allocation accounting");
+        for (int i = 0; i < WARMUP; i++) {
+            sink = operation.get();
+        }
+        long thread = Thread.currentThread().threadId();
+        long before = threads.getThreadAllocatedBytes(thread);
+        for (int i = 0; i < OPERATIONS; i++) {
+            sink = operation.get();
+        }
+        // anything below one byte per operation (the measurement itself, lazy initialization) rounds away
+        return (threads.getThreadAllocatedBytes(thread) - before) / OPERATIONS;
+    }
+}
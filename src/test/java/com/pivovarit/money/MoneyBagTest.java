@@ -0,0 +1,81 @@
+package com.pivovarit.money;
+
+import com.pivovarit.money.currency.TypedCurrency;
+import com.pivovarit.money.math.BigRational;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MoneyBagTest {
+
+    @Test
+    void shouldKeepOneExactSumPerCurrency() {
+        var bag = MoneyBag.empty()
+          .add(Money.from("10.10", TypedCurrency.EUR))
+          .add(Money.from("1", TypedCurrency.from("JPY")))
+          .add(Money.from(BigRational.of(1).divide(BigRational.of(3)), TypedCurrency.EUR))
+          .subtract(Money.from("0.10", "EUR"))
+          .add(Money.from("5", new TypedCurrency.ISOCurrency(Currency.getInstance("JPY"))));
+
+        assertThat(bag.get(TypedCurrency.EUR)).isEqualTo(Money.from(BigRational.of(31).divide(BigRational.of(3)), TypedCurrency.EUR));
+        assertThat(bag.get(TypedCurrency.from("JPY")).amount()).isEqualTo(BigRational.of(6));
+        assertThat(bag.get(TypedCurrency.USD).amount()).isEqualTo(BigRational.ZERO);
+        assertThat(bag.contains(TypedCurrency.USD)).isFalse();
+        assertThat(bag.currencies()).containsExactly(TypedCurrency.EUR, TypedCurrency.from("JPY"));
+        assertThat(bag.amounts()).hasSize(2);
+        assertThat(MoneyBag.empty().isEmpty()).isTrue();
+    }
+
+    @Test
+    void shouldMergeLikeSequentialSum() {
+        var random = new Random(42);
+        var currencies = List.of(TypedCurrency.EUR, TypedCurrency.USD, TypedCurrency.from("SEK"), TypedCurrency.from("ZAR"));
+        List<Money<?>> amounts = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            amounts.add(Money.from(BigDecimal.valueOf(random.nextLong(-100_000, 100_000), 2), currencies.get(random.nextInt(currencies.size()))));
+        }
+
+        var sequential = MoneyBag.of(amounts);
+        var merged = MoneyBag.of(amounts.subList(0, 300)).add(MoneyBag.of(amounts.subList(300, 1000)));
+        var parallel = amounts.parallelStream().collect(MoneyBag.summing());
+
+        assertThat(merged.amounts()).isEqualTo(sequential.amounts());
+        assertThat(parallel.amounts()).isEqualTo(sequential.amounts());
+    }
+
+    @Test
+    void shouldValueWholeBagWithSingleRounding() {
+        var table = ConversionRateTable.of(List.of(
+          ConversionRate.from(BigRational.of(1).divide(BigRational.of(3)), TypedCurrency.USD, TypedCurrency.EUR),
+          ConversionRate.from("0.001", TypedCurrency.from("JPY"), TypedCurrency.EUR)));
+        var bag = MoneyBag.empty()
+          .add(Money.from("0.01", TypedCurrency.USD))
+          .add(Money.from("0.01", TypedCurrency.USD))
+          .add(Money.from("5", TypedCurrency.from("JPY")))
+          .add(Money.from("1", TypedCurrency.EUR));
+
+        var value = bag.valueIn(TypedCurrency.EUR, table);
+
+        // converting and rounding every slot separately would give 1.02
+        assertThat(value.amount()).isEqualTo(BigRational.of("1.005").add(BigRational.of("0.02").divide(BigRational.of(3))));
+        assertThat(value.toDecimal().value()).isEqualTo(new BigDecimal("1.01"));
+        assertThat(bag.valueIn(TypedCurrency.EUR, CrossRateResolver.of(table.snapshot().rates()))).isEqualTo(value);
+    }
+
+    @Test
+    void shouldRejectMissingRates() {
+        var bag = MoneyBag.empty().add(Money.from("1", TypedCurrency.GBP));
+
+        assertThatThrownBy(() -> bag.valueIn(TypedCurrency.EUR, ConversionRateTable.empty()))
+          .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> bag.valueIn(TypedCurrency.EUR, CrossRateResolver.of(List.of())))
+          .isInstanceOf(IllegalArgumentException.class);
+        assertThat(MoneyBag.empty().valueIn(TypedCurrency.EUR, ConversionRateTable.empty()).amount()).isEqualTo(BigRational.ZERO);
+    }
+}
@@ -0,0 +1,77 @@
+package com.pivovarit.money;
+
+import com.pivovarit.money.currency.EUR;
+import com.pivovarit.money.currency.PLN;
+import com.pivovarit.money.currency.TypedCurrency;
+import com.pivovarit.money.math.BigRational;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MoneyCollectorsTest {
+
+    private static final List<Money<EUR>> PAYMENTS = payments(200_000);
+
+    @Test
+    void shouldSumExactly() {
+        var sum = PAYMENTS.stream().collect(Money.summing(TypedCurrency.EUR));
+
+        assertThat(sum).isEqualTo(PAYMENTS.stream().reduce(Money.from(BigRational.ZERO, TypedCurrency.EUR), Money::add));
+    }
+
+    @Test
+    void shouldSumIdenticallyInParallel() {
+        var sequential = PAYMENTS.stream().collect(Money.summing(TypedCurrency.EUR));
+        var parallel = PAYMENTS.parallelStream().collect(Money.summing(TypedCurrency.EUR));
+
+        assertIdentical(parallel, sequential);
+    }
+
+    @Test
+    void shouldSumConvertedIdenticallyInParallel() {
+        var rate = ConversionRate.from("4.31872", TypedCurrency.EUR, TypedCurrency.PLN);
+
+        var sequential = PAYMENTS.stream().collect(Money.summingConverted(rate));
+        var parallel = PAYMENTS.parallelStream().collect(Money.summingConverted(rate));
+
+        assertThat(sequential).isEqualTo(PAYMENTS.stream().map(rate::exchange).collect(Money.summing(TypedCurrency.PLN)));
+        assertIdentical(parallel, sequential);
+    }
+
+    @Test
+    void shouldAverageIdenticallyInParallel() {
+        var sequential = PAYMENTS.stream().collect(Money.averaging(TypedCurrency.EUR));
+        var parallel = PAYMENTS.parallelStream().collect(Money.averaging(TypedCurrency.EUR));
+
+        assertThat(sequential.amount())
+          .isEqualTo(PAYMENTS.stream().collect(Money.summing(TypedCurrency.EUR)).amount().divide(PAYMENTS.size()));
+        assertIdentical(parallel, sequential);
+    }
+
+    @Test
+    void shouldCollectEmptyStreamsToZero() {
+        assertThat(List.<Money<PLN>>of().stream().collect(Money.summing(TypedCurrency.PLN)))
+          .isEqualTo(Money.from(BigRational.ZERO, TypedCurrency.PLN));
+        assertThat(List.<Money<PLN>>of().stream().collect(Money.averaging(TypedCurrency.PLN)))
+          .isEqualTo(Money.from(BigRational.ZERO, TypedCurrency.PLN));
+    }
+
+    private static <T extends TypedCurrency> void assertIdentical(Money<T> actual, Money<T> expected) {
+        assertThat(actual).isEqualTo(expected);
+        assertThat(actual.amount().toString()).isEqualTo(expected.amount().toString());
+        assertThat(actual.amount().isDecimal()).isEqualTo(expected.amount().isDecimal());
+        assertThat(actual.toDecimal()).isEqualTo(expected.toDecimal());
+    }
+
+    private static List<Money<EUR>> payments(int size) {
+        var random = new Random(42);
+        return IntStream.range(0, size)
+          .mapToObj(i -> i % 100 == 0
+            ? Money.from(BigRational.of(random.nextLong(-1_000_000, 1_000_000), 3), TypedCurrency.EUR)
+            : Money.from(BigRational.of(random.nextLong(-1_000_000_000, 1_000_000_000), 100), TypedCurrency.EUR))
+          .toList();
+    }
+}
@@ -0,0 +1,68 @@
+package com.pivovarit.money;
+
+import com.pivovarit.money.currency.TypedCurrency;
+import com.pivovarit.money.math.BigRational;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.util.List;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MoneyEventsTest {
+
+    private static final List<String> EVENTS = List.of("com.pivovarit.money.ToDecimal", "com.pivovarit.money.Exchange");
+
+    private static final BigRational WIDE = BigRational.of(BigInteger.TWO.pow(1500).add(BigInteger.ONE), BigInteger.valueOf(3)
+      .pow(400));
+
+    @Test
+    void shouldRecordWideToDecimalAndExchange() throws IOException {
+        var rate = ConversionRate.from(BigRational.of(39_876, 9_999), TypedCurrency.USD, TypedCurrency.PLN);
+
+        var events = record(() -> {
+            Money.from(WIDE, TypedCurrency.EUR).toDecimal();
+            rate.exchange(Money.from(WIDE, TypedCurrency.USD));
+        });
+
+        assertThat(events.stream().map(e -> e.getEventType().getName()).toList()).isEqualTo(EVENTS);
+        assertThat(events.get(0).getString("currency")).isEqualTo("EUR");
+        assertThat(events.get(0).getString("rounding")).isEqualTo("HALF_UP");
+        assertThat(events.get(0).getInt("amountBitLength")).isGreaterThanOrEqualTo(1024);
+        assertThat(events.get(1).getString("from")).isEqualTo("USD");
+        assertThat(events.get(1).getString("to")).isEqualTo("PLN");
+        assertThat(events.get(1).getInt("resultBitLength")).isGreaterThan(events.get(1).getInt("amountBitLength"));
+    }
+
+    @Test
+    void shouldNotRecordRegularAmounts() throws IOException {
+        var rate = ConversionRate.from("4.0123", TypedCurrency.USD, TypedCurrency.PLN);
+
+        var events = record(() -> {
+            Money.from("12.345", TypedCurrency.EUR).toDecimal();
+            rate.exchange(Money.from("100.01", TypedCurrency.USD));
+        });
+
+        assertThat(events).isEmpty();
+    }
+
+    private static List<RecordedEvent> record(Runnable operations) throws IOException {
+        var file = Files.createTempFile("money-events", ".jfr");
+        try (var recording = new Recording()) {
+            EVENTS.forEach(recording::enable);
+            recording.start();
+            operations.run();
+            recording.stop();
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file).stream()
+              .filter(e -> EVENTS.contains(e.getEventType().getName()))
+              .toList();
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
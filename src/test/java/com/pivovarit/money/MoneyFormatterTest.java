@@ -0,0 +1,102 @@
+package com.pivovarit.money;
+
+import com.pivovarit.money.MoneyFormatter.CurrencyPlacement;
+import com.pivovarit.money.currency.TypedCurrency;
+import com.pivovarit.money.math.BigRational;
+import com.pivovarit.money.math.Rounding;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MoneyFormatterTest {
+
+    private static final MoneyFormatter STATEMENT = MoneyFormatter.DEFAULT
+      .withDecimalSeparator(',')
+      .withGroupingSeparator('.')
+      .withCurrencyPlacement(CurrencyPlacement.PREFIX);
+
+    @Test
+    void shouldFormatLikeToDecimal() {
+        var random = new Random(42);
+        for (int i = 0; i < 10_000; i++) {
+            var amount = BigRational.of(random.nextLong(-10_000_000, 10_000_000), random.nextLong(1, 1000));
+            for (var code : new String[]{"EUR", "JPY", "BHD"}) {
+                var money = Money.from(amount, code);
+                assertThat(money.toString()).isEqualTo(money.toDecimal().value() + " " + code);
+            }
+        }
+    }
+
+    @Test
+    void shouldApplyLayoutOptions() {
+        var money = Money.from("-1234567.125", TypedCurrency.EUR);
+
+        assertThat(STATEMENT.format(money)).isEqualTo("EUR -1.234.567,13");
+        assertThat(STATEMENT.withRounding(Rounding.HALF_EVEN).format(money)).isEqualTo("EUR -1.234.567,12");
+        assertThat(STATEMENT.withCurrencyPlacement(CurrencyPlacement.NONE).format(Money.from("0.004", TypedCurrency.EUR)))
+          .isEqualTo("0,00");
+        assertThat(MoneyFormatter.DEFAULT.withGroupingSeparator(',').format(Money.from("999", TypedCurrency.from("JPY"))))
+          .isEqualTo("999 JPY");
+        assertThat(MoneyFormatter.DEFAULT.withGroupingSeparator(',').format(Money.from("1000", TypedCurrency.from("JPY"))))
+          .isEqualTo("1,000 JPY");
+    }
+
+    @Test
+    void shouldFormatAmountsBeyondLong() {
+        var money = Money.from("-123456789012345678901234.567", TypedCurrency.EUR);
+
+        assertThat(money.toString()).isEqualTo("-123456789012345678901234.57 EUR");
+        assertThat(STATEMENT.format(money)).isEqualTo("EUR -123.456.789.012.345.678.901.234,57");
+        assertThat(bytes(STATEMENT, money)).isEqualTo("EUR -123.456.789.012.345.678.901.234,57");
+    }
+
+    @Test
+    void shouldWriteIntoAppendableAndByteBuffer() {
+        var money = Money.from("12.5", TypedCurrency.EUR);
+
+        assertThat(money.formatTo(new StringBuilder("total: ")).toString()).isEqualTo("total: 12.50 EUR");
+        assertThat(bytes(MoneyFormatter.DEFAULT, money)).isEqualTo("12.50 EUR");
+        assertThat(bytes(STATEMENT, Money.from("1234", TypedCurrency.EUR))).isEqualTo("EUR 1.234,00");
+    }
+
+    @Test
+    void shouldWrapIOExceptions() {
+        var failing = new Writer() {
+            @Override
+            public void write(char[] cbuf, int off, int len) throws IOException {
+                throw new IOException("closed");
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+
+        assertThatThrownBy(() -> Money.from("1", TypedCurrency.EUR).formatTo(failing))
+          .isInstanceOf(UncheckedIOException.class);
+    }
+
+    @Test
+    void shouldRejectAmbiguousSeparators() {
+        assertThatThrownBy(() -> MoneyFormatter.DEFAULT.withGroupingSeparator('.'))
+          .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> MoneyFormatter.DEFAULT.withDecimalSeparator('5'))
+          .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static String bytes(MoneyFormatter formatter, Money<?> money) {
+        var buffer = formatter.formatTo(money, ByteBuffer.allocate(64)).flip();
+        return StandardCharsets.ISO_8859_1.decode(buffer).toString();
+    }
+}
@@ -1,9 +1,16 @@
 package com.pivovarit.money;
 
 import com.pivovarit.money.currency.TypedCurrency;
+import com.pivovarit.money.math.BigRational;
+import com.pivovarit.money.math.DenominatorLimit;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class MoneyTest {
 
@@ -20,4 +27,72 @@ class MoneyTest {
         assertThat(Money.from("100.00", TypedCurrency.from("PLN")).fractionDigits()).isEqualTo(2);
         assertThat(Money.from("100.00", TypedCurrency.from("JPY")).fractionDigits()).isEqualTo(0);
     }
+
+    @Test
+    void shouldOrderByAmount() {
+        var amounts = new ArrayList<>(List.of(
+          Money.from("10.5", TypedCurrency.PLN),
+          Money.from("-3", TypedCurrency.PLN),
+          Money.from("10.49", TypedCurrency.PLN)));
+
+        Collections.sort(amounts);
+
+        assertThat(amounts).containsExactly(
+          Money.from("-3", TypedCurrency.PLN),
+          Money.from("10.49", TypedCurrency.PLN),
+          Money.from("10.5", TypedCurrency.PLN));
+    }
+
+    @Test
+    void shouldRejectComparingDifferentCurrencies() {
+        assertThatThrownBy(() -> Money.from("1", "PLN").compareTo(Money.from("1", "USD")))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessageContaining("Currency mismatch");
+    }
+
+    @Test
+    void shouldBoundDenominatorOfCompoundedAmounts() {
+        var limit = DenominatorLimit.of(1_000_000_000L);
+        var dailyInterest = BigRational.ONE.add(BigRational.of("0.0425").divide(365));
+        var exact = Money.from("1000.00", TypedCurrency.EUR);
+        var bounded = exact;
+        var error = BigRational.ZERO;
+
+        for (int day = 0; day < 30; day++) {
+            exact = exact.multiply(dailyInterest);
+            var step = bounded.multiply(dailyInterest, limit);
+            bounded = step.value();
+            error = error.multiply(dailyInterest).add(step.error());
+        }
+
+        assertThat(bounded.amount().denominator()).isLessThanOrEqualTo(BigInteger.valueOf(1_000_000_000L));
+        assertThat(bounded.amount().add(error)).isEqualTo(exact.amount());
+        assertThat(bounded.toString()).isEqualTo(exact.toString());
+    }
+
+    @Test
+    void shouldKeepLimitAcrossLongChainsOfBoundedMoney() {
+        var limit = DenominatorLimit.of(1_000_000_000L);
+        var dailyInterest = BigRational.ONE.add(BigRational.of("0.0425").divide(365));
+        var balance = BoundedMoney.of(Money.from("1000.00", TypedCurrency.EUR), limit).value();
+
+        for (int day = 0; day < 3650; day++) {
+            var step = day % 30 == 29
+              ? balance.divide(BigRational.of(100_003, 100_000))
+              : balance.multiply(dailyInterest);
+            var exact = day % 30 == 29
+              ? balance.amount().divide(BigRational.of(100_003, 100_000))
+              : balance.amount().multiply(dailyInterest);
+
+            assertThat(step.value().limit()).isSameAs(limit);
+            assertThat(step.value().amount().denominator()).isLessThanOrEqualTo(BigInteger.valueOf(1_000_000_000L));
+            assertThat(step.value().amount().add(step.error())).isEqualTo(exact);
+            balance = step.value();
+        }
+
+        var exchanged = balance.exchange(ConversionRate.from(BigRational.of(39_876, 9_999), TypedCurrency.EUR, TypedCurrency.PLN));
+        assertThat(exchanged.value().currency()).isEqualTo(TypedCurrency.PLN);
+        assertThat(exchanged.value().limit()).isSameAs(limit);
+        assertThat(exchanged.value().amount().denominator()).isLessThanOrEqualTo(BigInteger.valueOf(1_000_000_000L));
+    }
 }
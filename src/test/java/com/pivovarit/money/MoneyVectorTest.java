@@ -0,0 +1,199 @@
+package com.pivovarit.money;
+
+import com.pivovarit.money.currency.EUR;
+import com.pivovarit.money.currency.TypedCurrency;
+import com.pivovarit.money.math.BigRational;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MoneyVectorTest {
+
+    private static final EUR EUR = TypedCurrency.EUR;
+
+    @Test
+    void shouldKeepExactAmountsNextToMinorUnits() {
+        var third = Money.from(BigRational.of(1, 3), EUR);
+        var huge = Money.from(new BigDecimal("1e30"), EUR);
+
+        var vector = MoneyVector.of(EUR)
+          .append(Money.from("12.34", EUR))
+          .append(third)
+          .append(FastMoney.ofMinor(-5, EUR))
+          .append(huge)
+          .appendMinor(100);
+
+        assertThat(vector.size()).isEqualTo(5);
+        assertThat(vector.get(0)).isEqualTo(Money.from("12.34", EUR));
+        assertThat(vector.get(1)).isEqualTo(third);
+        assertThat(vector.get(2)).isEqualTo(Money.from("-0.05", EUR));
+        assertThat(vector.get(3)).isEqualTo(huge);
+        assertThat(vector.get(4)).isEqualTo(Money.from("1", EUR));
+    }
+
+    @Test
+    void shouldSumExactly() {
+        var vector = MoneyVector.ofMinor(EUR, 1, 2, 3).append(Money.from(BigRational.of(1, 3), EUR));
+
+        assertThat(vector.sum()).isEqualTo(Money.from(BigRational.of(1, 3).add(BigRational.of("0.06")), EUR));
+        assertThat(MoneyVector.of(EUR).sum()).isEqualTo(Money.from(BigRational.ZERO, EUR));
+    }
+
+    @Test
+    void shouldSumPastLongRange() {
+        var vector = MoneyVector.ofMinor(EUR, Long.MAX_VALUE, Long.MAX_VALUE, -5);
+
+        var expected = BigInteger.valueOf(Long.MAX_VALUE).shiftLeft(1).subtract(BigInteger.valueOf(5));
+        assertThat(vector.sum()).isEqualTo(Money.from(new BigDecimal(expected, 2), EUR));
+    }
+
+    @Test
+    void shouldNegateAndMultiplyWithoutWrapping() {
+        var vector = MoneyVector.ofMinor(EUR, Long.MIN_VALUE, 7, Long.MAX_VALUE);
+
+        assertThat(vector.negate().get(0)).isEqualTo(Money.from(new BigDecimal(BigInteger.valueOf(Long.MIN_VALUE).negate(), 2), EUR));
+        assertThat(vector.negate().get(1)).isEqualTo(Money.from("-0.07", EUR));
+        assertThat(vector.multiply(2).get(1)).isEqualTo(Money.from("0.14", EUR));
+        assertThat(vector.multiply(2).get(2)).isEqualTo(Money.from(new BigDecimal(BigInteger.valueOf(Long.MAX_VALUE).shiftLeft(1), 2), EUR));
+        assertThat(vector.multiply(BigRational.of(1, 7)).get(1)).isEqualTo(Money.from("0.01", EUR));
+        assertThat(vector.multiply(BigRational.of(1, 2)).get(1)).isEqualTo(Money.from("0.035", EUR));
+    }
+
+    @Test
+    void shouldCompareAgainstFractionalThresholds() {
+        var vector = MoneyVector.ofMinor(EUR, 1, 2, 3, -1).append(Money.from(BigRational.of(1, 60), EUR));
+        var threshold = Money.from("0.015", EUR);
+
+        assertThat(vector.greaterThan(threshold)).isEqualTo(bits(1, 2, 4));
+        assertThat(vector.lessThan(threshold)).isEqualTo(bits(0, 3));
+        assertThat(vector.greaterThan(Money.from(new BigDecimal("1e30"), EUR))).isEqualTo(bits());
+        assertThat(vector.lessThan(Money.from(new BigDecimal("1e30"), EUR))).isEqualTo(bits(0, 1, 2, 3, 4));
+
+        var wide = MoneyVector.ofMinor(EUR, Long.MAX_VALUE, Long.MAX_VALUE - 2, Long.MIN_VALUE);
+        assertThat(wide.greaterThan(Money.from(BigDecimal.valueOf(Long.MAX_VALUE - 1, 2), EUR))).isEqualTo(bits(0));
+        assertThat(wide.lessThan(Money.from(BigDecimal.valueOf(Long.MIN_VALUE + 1, 2), EUR))).isEqualTo(bits(2));
+    }
+
+    @Test
+    void shouldFilterPositions() {
+        var vector = MoneyVector.ofMinor(EUR, 5, -3, 8).append(Money.from(BigRational.of(1, 3), EUR));
+
+        var positive = vector.filter(vector.greaterThan(Money.from("0", EUR)));
+
+        assertThat(positive.size()).isEqualTo(3);
+        assertThat(positive.get(2)).isEqualTo(Money.from(BigRational.of(1, 3), EUR));
+        assertThat(positive.sum()).isEqualTo(Money.from(BigRational.of(1, 3).add(BigRational.of("0.13")), EUR));
+    }
+
+    @Test
+    void shouldFindExtremes() {
+        assertThat(MoneyVector.ofMinor(EUR, 5, -3, 8).min()).contains(Money.from("-0.03", EUR));
+        assertThat(MoneyVector.ofMinor(EUR, 5, -3, 8).max()).contains(Money.from("0.08", EUR));
+        assertThat(MoneyVector.ofMinor(EUR, 5).append(Money.from(new BigDecimal("-1e30"), EUR)).min()).contains(Money.from(new BigDecimal("-1e30"), EUR));
+        assertThat(MoneyVector.of(EUR).max()).isEqualTo(Optional.empty());
+    }
+
+    @Test
+    void shouldRejectOtherCurrencies() {
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        MoneyVector<TypedCurrency> vector = (MoneyVector) MoneyVector.of(EUR);
+
+        assertThatThrownBy(() -> vector.append(Money.from("1", TypedCurrency.USD)))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessage("Currency mismatch: EUR vs USD");
+        assertThatThrownBy(() -> MoneyVector.of(TypedCurrency.from("XAU")))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessage("currency has no minor units: XAU");
+    }
+
+    @Test
+    void shouldMatchMoneyWithEitherKernels() {
+        var random = new Random(42);
+        long[] edges = {0, 1, -1, Long.MAX_VALUE, Long.MIN_VALUE, Long.MAX_VALUE / 3, Long.MIN_VALUE / 3};
+        for (int run = 0; run < 200; run++) {
+            int size = random.nextInt(70);
+            var scalar = MoneyVector.of(EUR, ScalarLongKernels.INSTANCE);
+            var preferred = MoneyVector.of(EUR, LongKernels.INSTANCE);
+            List<Money<EUR>> reference = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                long minor = switch (random.nextInt(4)) {
+                    case 0 -> edges[random.nextInt(edges.length)];
+                    case 1 -> random.nextLong();
+                    default -> random.nextInt(2_000_001) - 1_000_000;
+                };
+                Money<EUR> amount = random.nextInt(10) == 0
+                  ? Money.from(BigRational.of(minor, 7), EUR)
+                  : Money.from(BigDecimal.valueOf(minor, 2), EUR);
+                scalar.append(amount);
+                preferred.append(amount);
+                reference.add(amount);
+            }
+            long factor = random.nextBoolean() ? random.nextInt(7) - 3 : random.nextLong();
+            var rationalFactor = random.nextBoolean()
+              ? BigRational.of(random.nextInt(41) - 20, random.nextInt(20) + 1)
+              : BigRational.of(random.nextLong(), Long.MAX_VALUE);
+            var threshold = reference.isEmpty() ? Money.from("0", EUR) : reference.get(random.nextInt(reference.size()));
+
+            for (var vector : List.of(scalar, preferred)) {
+                assertThat(vector.sum()).isEqualTo(reference.stream().reduce(Money.from("0", EUR), Money::add));
+                assertThat(elements(vector.negate())).isEqualTo(reference.stream().map(Money::negate).toList());
+                assertThat(elements(vector.multiply(factor))).isEqualTo(reference.stream()
+                  .map(m -> m.multiply(BigRational.of(factor))).toList());
+                assertThat(elements(vector.multiply(rationalFactor))).isEqualTo(reference.stream()
+                  .map(m -> m.multiply(rationalFactor)).toList());
+                assertThat(vector.greaterThan(threshold)).isEqualTo(matching(reference, m -> m.compareTo(threshold) > 0));
+                assertThat(vector.lessThan(threshold)).isEqualTo(matching(reference, m -> m.compareTo(threshold) < 0));
+                assertThat(vector.min()).isEqualTo(reference.stream().min(Money::compareTo));
+                assertThat(vector.max()).isEqualTo(reference.stream().max(Money::compareTo));
+            }
+        }
+    }
+
+    @Test
+    void shouldNegateAllButMinValueLanesWithEitherKernels() {
+        long[] a = new long[37];
+        for (int i = 0; i < a.length; i++) {
+            a[i] = i % 5 == 0 ? Long.MIN_VALUE : i * 1_000_003L - 17_000_000L;
+        }
+        for (var kernels : List.of(ScalarLongKernels.INSTANCE, LongKernels.INSTANCE)) {
+            long[] dst = new long[a.length];
+
+            assertThat(kernels.negate(a, a.length, dst)).isFalse();
+            for (int i = 0; i < a.length; i++) {
+                if (a[i] != Long.MIN_VALUE) {
+                    assertThat(dst[i]).isEqualTo(-a[i]);
+                }
+            }
+        }
+    }
+
+    private static List<Money<EUR>> elements(MoneyVector<EUR> vector) {
+        return IntStream.range(0, vector.size()).mapToObj(vector::get).toList();
+    }
+
+    private static BitSet matching(List<Money<EUR>> amounts, Predicate<Money<EUR>> predicate) {
+        var bits = new BitSet();
+        for (int i = 0; i < amounts.size(); i++) {
+            bits.set(i, predicate.test(amounts.get(i)));
+        }
+        return bits;
+    }
+
+    private static BitSet bits(int... positions) {
+        var bits = new BitSet();
+        for (int position : positions) {
+            bits.set(position);
+        }
+        return bits;
+    }
+}
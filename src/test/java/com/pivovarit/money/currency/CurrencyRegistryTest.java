@@ -0,0 +1,53 @@
+package com.pivovarit.money.currency;
+
+import java.util.Currency;
+import java.util.HashSet;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CurrencyRegistryTest {
+
+    @Test
+    void shouldInternEveryIsoCurrency() {
+        assertThat(TypedCurrency.from("SEK")).isSameAs(TypedCurrency.from("SEK"));
+        assertThat(TypedCurrency.from("JPY")).isSameAs(CurrencyRegistry.of(Currency.getInstance("JPY")));
+        assertThat(TypedCurrency.from("EUR")).isSameAs(TypedCurrency.EUR);
+        assertThat(CurrencyRegistry.size()).isEqualTo(Currency.getAvailableCurrencies().size());
+    }
+
+    @Test
+    void shouldAssignDenseIdsWithBuiltInsFirst() {
+        var seen = new HashSet<Integer>();
+        for (Currency currency : Currency.getAvailableCurrencies()) {
+            int id = CurrencyRegistry.id(currency);
+            assertThat(CurrencyRegistry.of(id).currency()).isSameAs(currency);
+            seen.add(id);
+        }
+
+        assertThat(seen.size()).isEqualTo(CurrencyRegistry.size());
+        assertThat(CurrencyRegistry.id(TypedCurrency.EUR)).isEqualTo(0);
+        assertThat(CurrencyRegistry.id(TypedCurrency.ILS)).isEqualTo(9);
+        assertThat(CurrencyRegistry.currencies().get(CurrencyRegistry.id(TypedCurrency.from("SEK")))).isSameAs(TypedCurrency.from("SEK"));
+    }
+
+    @Test
+    void shouldExposeMetadata() {
+        var jpy = CurrencyRegistry.info(TypedCurrency.from("JPY"));
+
+        assertThat(jpy.code()).isEqualTo("JPY");
+        assertThat(jpy.numericCode()).isEqualTo(392);
+        assertThat(jpy.fractionDigits()).isEqualTo(0);
+        assertThat(CurrencyRegistry.info(jpy.id())).isSameAs(jpy);
+        assertThat(CurrencyRegistry.info(TypedCurrency.from("XAU")).fractionDigits()).isEqualTo(-1);
+    }
+
+    @Test
+    void shouldRejectUnknownCodes() {
+        assertThatThrownBy(() -> TypedCurrency.from("eur")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> TypedCurrency.from("ABC")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> TypedCurrency.from("EURO")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CurrencyRegistry.of(-1)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+}
@@ -0,0 +1,106 @@
+package com.pivovarit.money.math;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AsciiDecimalParserTest {
+
+    private static final byte[] CSV = "id;amount;x\n1;1234567.89;a\n2;  -0.5 ;b\n3;12345678901234567890.12;c\n"
+      .getBytes(StandardCharsets.US_ASCII);
+
+    @Test
+    void shouldParseFieldsInPlace() {
+        assertThat(AsciiDecimalParser.parse(CSV, 14, 10)).isEqualTo(BigRational.of("1234567.89"));
+        assertThat(AsciiDecimalParser.parse(CSV, 29, 7)).isEqualTo(BigRational.of("-0.5"));
+        assertThat(AsciiDecimalParser.parse(CSV, 41, 23)).isEqualTo(BigRational.of("12345678901234567890.12"));
+    }
+
+    @Test
+    void shouldParseScaledValues() {
+        assertThat(AsciiDecimalParser.parseScaled(CSV, 14, 10, 2)).isEqualTo(123456789L);
+        assertThat(AsciiDecimalParser.parseScaled(CSV, 29, 7, 3)).isEqualTo(-500L);
+        assertThat(AsciiDecimalParser.parseScaled(bytes("42.10"), 0, 5, 1)).isEqualTo(421L);
+        assertThat(AsciiDecimalParser.parseScaled(bytes("0000000000000000000042.10"), 0, 25, 2)).isEqualTo(4210L);
+    }
+
+    @Test
+    void shouldMatchStringParsingAcrossSwarBoundaries() {
+        for (var input : new String[]{"1", "12345678", "123456789", "12345678.12345678", "-99999999999999999",
+          "+00000000.00000001", "1234567890123456.7", "123456789012345678", "9223372036854775807.5"}) {
+            assertThat(AsciiDecimalParser.parse(bytes(input), 0, input.length())).isEqualTo(BigRational.of(input));
+        }
+    }
+
+    @Test
+    void shouldParseDirectBuffersInPlace() {
+        for (var input : new String[]{"1", " 12345678 ", "123456789", "12345678.12345678", "-99999999999999999",
+          "+00000000.00000001", "1234567890123456.7", "123456789012345678", "9223372036854775807.5"}) {
+            // a big-endian buffer with the field at an odd offset
+            var direct = ByteBuffer.allocateDirect(input.length() + 3).put(bytes("x;;" + input));
+            assertThat(AsciiDecimalParser.parse(direct, 3, input.length())).isEqualTo(BigRational.of(input));
+        }
+        var direct = ByteBuffer.allocateDirect(CSV.length).put(CSV);
+        assertThat(AsciiDecimalParser.parseScaled(direct, 14, 10, 2)).isEqualTo(123456789L);
+        assertThat(AsciiDecimalParser.parseScaled(direct, 29, 7, 3)).isEqualTo(-500L);
+        assertThatThrownBy(() -> AsciiDecimalParser.parseScaled(direct, 41, 23, 2))
+          .isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> AsciiDecimalParser.parse(ByteBuffer.allocateDirect(4).put(bytes("12a4")), 0, 4))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessage("invalid number: '12a4' (from: 12a4)");
+    }
+
+    @Test
+    void shouldRejectInexactOrOverflowingScaledValues() {
+        assertThatThrownBy(() -> AsciiDecimalParser.parseScaled(bytes("1.005"), 0, 5, 2))
+          .isInstanceOf(ArithmeticException.class)
+          .hasMessageContaining("rounding necessary");
+        assertThatThrownBy(() -> AsciiDecimalParser.parseScaled(bytes("99999999999999999"), 0, 17, 4))
+          .isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> AsciiDecimalParser.parseScaled(CSV, 41, 23, 2))
+          .isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    void shouldRejectMalformedFieldsWithScannerMessages() {
+        assertThatThrownBy(() -> AsciiDecimalParser.parse(bytes("12a4"), 0, 4))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessageContaining("invalid number");
+        assertThatThrownBy(() -> AsciiDecimalParser.parse(bytes("1,000"), 0, 5))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessageContaining("commas");
+        assertThatThrownBy(() -> AsciiDecimalParser.parse(bytes("   "), 0, 3))
+          .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldParseBatchesFromArraysAndBuffers() {
+        int[] offsets = {14, 29};
+        int[] lengths = {10, 7};
+
+        long[] fromArray = new long[2];
+        AsciiDecimalParser.parseScaled(CSV, offsets, lengths, 2, fromArray);
+
+        var direct = ByteBuffer.allocateDirect(CSV.length).put(CSV);
+        long[] fromDirect = new long[2];
+        AsciiDecimalParser.parseScaled(direct, offsets, lengths, 2, fromDirect);
+
+        long[] fromHeap = new long[2];
+        AsciiDecimalParser.parseScaled(ByteBuffer.wrap(CSV), offsets, lengths, 2, fromHeap);
+
+        BigRational[] rationals = new BigRational[2];
+        AsciiDecimalParser.parse(CSV, offsets, lengths, rationals);
+
+        assertThat(fromArray).containsExactly(123456789L, -50L);
+        assertThat(fromDirect).containsExactly(123456789L, -50L);
+        assertThat(fromHeap).containsExactly(123456789L, -50L);
+        assertThat(rationals).containsExactly(BigRational.of("1234567.89"), BigRational.of("-0.5"));
+    }
+
+    private static byte[] bytes(String s) {
+        return s.getBytes(StandardCharsets.US_ASCII);
+    }
+}
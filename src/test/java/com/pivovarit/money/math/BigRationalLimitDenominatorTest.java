@@ -0,0 +1,89 @@
+package com.pivovarit.money.math;
+
+import java.math.BigInteger;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BigRationalLimitDenominatorTest {
+
+    @Test
+    void shouldFindBestRationalApproximations() {
+        var pi = BigRational.of("3.141592653589793");
+
+        assertThat(pi.limitDenominator(10)).isEqualTo(BigRational.of(22, 7));
+        assertThat(pi.limitDenominator(1000)).isEqualTo(BigRational.of(355, 113));
+        assertThat(pi.negate().limitDenominator(1000)).isEqualTo(BigRational.of(-355, 113));
+        assertThat(BigRational.of(1, 1000).limitDenominator(10)).isEqualTo(BigRational.ZERO);
+    }
+
+    @Test
+    void shouldReturnValueWithinBoundUnchanged() {
+        assertThat(BigRational.of(2, 6).deferReduction().limitDenominator(3)).isEqualTo(BigRational.of(1, 3));
+        assertThat(BigRational.of("12.50").limitDenominator(2)).isEqualTo(BigRational.of(25, 2));
+    }
+
+    @Test
+    void shouldMatchBruteForceClosestFraction() {
+        var random = new Random(42);
+        for (int i = 0; i < 2_000; i++) {
+            var value = BigRational.of(random.nextLong(-1_000_000, 1_000_000), random.nextLong(1, 1_000_000));
+            int max = random.nextInt(1, 60);
+
+            var limited = value.limitDenominator(max);
+
+            assertThat(limited.denominator()).isLessThanOrEqualTo(BigInteger.valueOf(max));
+            assertThat(distance(limited, value)).isEqualTo(bruteForceDistance(value, max));
+            assertThat(value.limitDenominator(BigInteger.valueOf(max))).isEqualTo(limited);
+        }
+    }
+
+    @Test
+    void shouldBoundWideValues() {
+        var wide = BigRational.of(BigInteger.TEN.pow(60).add(BigInteger.ONE), BigInteger.valueOf(3).pow(100));
+
+        var limited = wide.limitDenominator(1_000_000_000L);
+
+        assertThat(limited.denominator()).isLessThanOrEqualTo(BigInteger.valueOf(1_000_000_000L));
+        assertThat(distance(limited, wide).compareTo(BigRational.of(1, 1_000_000_000L))).isNegative();
+    }
+
+    @Test
+    void shouldRejectNonPositiveBound() {
+        assertThatThrownBy(() -> BigRational.ONE.limitDenominator(0))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessage("maxDenominator must be > 0");
+        assertThatThrownBy(() -> BigRational.ONE.limitDenominator(BigInteger.ONE.negate()))
+          .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldReportExactError() {
+        var value = BigRational.of(1, 3).multiply(BigRational.of("1.0012345"));
+
+        var approximation = DenominatorLimit.of(1000).apply(value);
+
+        assertThat(approximation.value().denominator()).isLessThanOrEqualTo(BigInteger.valueOf(1000));
+        assertThat(approximation.value().add(approximation.error())).isEqualTo(value);
+        assertThat(approximation.isExact()).isFalse();
+        assertThat(DenominatorLimit.of(1000).apply(BigRational.of(1, 3)).isExact()).isTrue();
+    }
+
+    private static BigRational bruteForceDistance(BigRational value, int max) {
+        BigRational best = null;
+        for (int q = 1; q <= max; q++) {
+            var candidate = BigRational.of(value.multiply(BigRational.of(q)).roundHalfEven(), BigInteger.valueOf(q));
+            var d = distance(candidate, value);
+            if (best == null || d.compareTo(best) < 0) {
+                best = d;
+            }
+        }
+        return best;
+    }
+
+    private static BigRational distance(BigRational a, BigRational b) {
+        return a.subtract(b).abs();
+    }
+}
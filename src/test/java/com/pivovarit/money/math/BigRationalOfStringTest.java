@@ -1,6 +1,8 @@
 package com.pivovarit.money.math;
 
+import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.EnumSet;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
@@ -179,10 +181,96 @@ class BigRationalOfStringTest {
                 .hasMessageContaining("invalid number");
         }
 
+        @Test
+        void reportsTheFirstProblemOfTheWholeInput() {
+            assertThatThrownBy(() -> BigRational.of("x,1"))
+                .hasMessage("commas are not supported: x,1");
+            assertThatThrownBy(() -> BigRational.of("1.x/2e3"))
+                .hasMessage("scientific notation is not supported: 1.x/2e3");
+            assertThatThrownBy(() -> BigRational.of("1./2/3"))
+                .hasMessage("invalid rational (too many '/'): 1./2/3");
+            assertThatThrownBy(() -> BigRational.of(" 1 2 / 3"))
+                .hasMessage("invalid number: '1 2' (from:  1 2 / 3)");
+            assertThatThrownBy(() -> BigRational.of("1/ -x "))
+                .hasMessage("invalid number: '-x' (from: 1/ -x )");
+        }
+
         @Test
         void rejectsPlusSignOnly() {
             assertThatThrownBy(() -> BigRational.of("+"))
                 .isInstanceOf(IllegalArgumentException.class);
         }
     }
+
+    @Nested
+    class Slices {
+
+        @Test
+        void parsesSliceOfCharSequence() {
+            var message = new StringBuilder("EURPLN=4.31872;ts=1");
+
+            assertThat(BigRational.of(message, 7, 7)).isEqualTo(BigRational.of("4.31872"));
+        }
+
+        @Test
+        void rejectsSliceOutOfBounds() {
+            assertThatThrownBy(() -> BigRational.of("1.5", 2, 5))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        }
+
+        @Test
+        void parsesDigitsBeyondLongRange() {
+            assertThat(BigRational.of("-123456789012345678901234567890.123456789012345678901234567890"))
+                .isEqualTo(BigRational.of(new BigDecimal("-123456789012345678901234567890.123456789012345678901234567890")));
+        }
+    }
+
+    @Nested
+    class Options {
+
+        @Test
+        void acceptsGroupingSeparatorsWhenEnabled() {
+            assertThat(BigRational.of("1,234,567.50", 0, 12, EnumSet.of(ParseOption.GROUPING)))
+                .isEqualTo(BigRational.of("1234567.50"));
+            assertThat(BigRational.of("1_000/3", 0, 7, EnumSet.of(ParseOption.GROUPING)))
+                .isEqualTo(BigRational.of(1000, 3));
+        }
+
+        @Test
+        void rejectsMisplacedGroupingSeparators() {
+            for (var input : new String[]{",1", "1,", "1,,0", "1.0,0", "-,1"}) {
+                assertThatThrownBy(() -> BigRational.of(input, 0, input.length(), EnumSet.of(ParseOption.GROUPING)))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("invalid number");
+            }
+        }
+
+        @Test
+        void acceptsExponentWhenEnabled() {
+            assertThat(BigRational.of("1.5e-3", 0, 6, EnumSet.of(ParseOption.EXPONENT)))
+                .isEqualTo(BigRational.of(15, 10_000));
+            assertThat(BigRational.of("-2E+2/1e1", 0, 9, EnumSet.of(ParseOption.EXPONENT)))
+                .isEqualTo(BigRational.of(-20));
+        }
+
+        @Test
+        void rejectsMalformedOrHugeExponents() {
+            assertThatThrownBy(() -> BigRational.of("1e", 0, 2, EnumSet.of(ParseOption.EXPONENT)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("invalid number");
+            assertThatThrownBy(() -> BigRational.of("1e100000", 0, 8, EnumSet.of(ParseOption.EXPONENT)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("exponent out of range");
+        }
+
+        @Test
+        void keepsRejectingWhatIsNotEnabled() {
+            assertThatThrownBy(() -> BigRational.of("1,000", 0, 5, EnumSet.of(ParseOption.EXPONENT)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("commas");
+            assertThatThrownBy(() -> BigRational.of("1e3", 0, 3, EnumSet.of(ParseOption.GROUPING)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("scientific notation");
+        }
+    }
 }
@@ -81,6 +81,16 @@ public class BigRationalTest {
             assertThat(x.numerator()).isEqualTo(BigInteger.valueOf(7));
             assertThat(x.denominator()).isEqualTo(BigInteger.valueOf(13));
         }
+
+        @Test
+        void ofUnscaledMatchesBigDecimal() {
+            for (long unscaled : new long[]{0, 1, -123456, 1000, Long.MAX_VALUE, Long.MIN_VALUE}) {
+                for (int scale : new int[]{0, 2, 18, 25}) {
+                    assertThat(BigRational.ofUnscaled(unscaled, scale)).isEqualTo(BigRational.of(BigDecimal.valueOf(unscaled, scale)));
+                }
+            }
+            assertThatThrownBy(() -> BigRational.ofUnscaled(1, -1)).isInstanceOf(IllegalArgumentException.class);
+        }
     }
 
     @Nested
@@ -140,6 +150,37 @@ public class BigRationalTest {
             assertThat(b).isLessThan(c);
             assertThat(a).isLessThan(c);
         }
+
+        @Test
+        void compareTo_wideValuesAcrossShortcuts() {
+            BigInteger big = BigInteger.ONE.shiftLeft(200);
+            BigInteger den = BigInteger.valueOf(3).pow(60);
+
+            // same denominator
+            assertThat(new BigRational(big, den)).isGreaterThan(new BigRational(big.subtract(BigInteger.ONE), den));
+            // magnitudes far apart, both signs
+            assertThat(new BigRational(big, den)).isGreaterThan(new BigRational(big, den.shiftLeft(5)));
+            assertThat(new BigRational(big.negate(), den)).isLessThan(new BigRational(big.negate(), den.shiftLeft(5)));
+            // magnitudes close: exact cross product needed
+            assertThat(new BigRational(big.add(BigInteger.ONE), den.add(BigInteger.ONE)))
+              .isLessThan(new BigRational(big, den));
+            // negative power of two numerators sit on the edge of the bit-length estimate
+            assertThat(new BigRational(big.negate(), BigInteger.ONE))
+              .isLessThan(new BigRational(big.negate().add(BigInteger.ONE), BigInteger.TWO));
+            // mixed small / large
+            assertThat(BigRational.of(Long.MAX_VALUE, 3)).isLessThan(new BigRational(big, den));
+            assertThat(BigRational.of(-1, 3)).isGreaterThan(new BigRational(big.negate(), den));
+        }
+
+        @Test
+        void compareTo_unreducedTerms() {
+            BigRational a = BigRational.of(1, 3).deferReduction().add(BigRational.of(1, 6));
+            BigRational b = BigRational.of(1, 2);
+
+            assertThat(a).isEqualByComparingTo(b);
+            assertThat(a.add(BigRational.of(1, 1_000_000))).isGreaterThan(b);
+            assertThat(a.negate()).isLessThan(b);
+        }
     }
 
     @Nested
@@ -433,6 +474,308 @@ public class BigRationalTest {
         }
     }
 
+    @Nested
+    @DisplayName("long / BigInteger representation boundaries")
+    class RepresentationBoundaries {
+
+        private static final BigInteger LONG_MAX = BigInteger.valueOf(Long.MAX_VALUE);
+        private static final BigInteger LONG_MIN = BigInteger.valueOf(Long.MIN_VALUE);
+
+        @Test
+        void longMinValueIsSupported() {
+            BigRational x = BigRational.of(Long.MIN_VALUE);
+
+            assertThat(x.numerator()).isEqualTo(LONG_MIN);
+            assertThat(x.negate().numerator()).isEqualTo(LONG_MIN.negate());
+            assertThat(x.abs()).isEqualTo(new BigRational(LONG_MIN.negate(), BigInteger.ONE));
+        }
+
+        @Test
+        void longMinValueDenominatorIsNormalized() {
+            BigRational x = BigRational.of(1, Long.MIN_VALUE);
+
+            assertThat(x.numerator()).isEqualTo(BigInteger.valueOf(-1));
+            assertThat(x.denominator()).isEqualTo(LONG_MIN.negate());
+        }
+
+        @Test
+        void addPromotesOnOverflow() {
+            BigRational sum = BigRational.of(Long.MAX_VALUE).add(BigRational.ONE);
+
+            assertThat(sum.numerator()).isEqualTo(LONG_MAX.add(BigInteger.ONE));
+            assertThat(sum.denominator()).isEqualTo(BigInteger.ONE);
+        }
+
+        @Test
+        void multiplyPromotesOnOverflow() {
+            BigRational product = BigRational.of(Long.MAX_VALUE, 3).multiply(BigRational.of(Long.MAX_VALUE, 5));
+
+            assertThat(product.numerator()).isEqualTo(LONG_MAX.multiply(LONG_MAX));
+            assertThat(product.denominator()).isEqualTo(BigInteger.valueOf(15));
+        }
+
+        @Test
+        void resultsThatFitAgainAreEqualToSmallValues() {
+            BigRational large = BigRational.of(Long.MAX_VALUE).add(BigRational.ONE);
+            BigRational back = large.subtract(BigRational.ONE);
+
+            assertThat(back).isEqualTo(BigRational.of(Long.MAX_VALUE));
+            assertThat(back.hashCode()).isEqualTo(BigRational.of(Long.MAX_VALUE).hashCode());
+            assertThat(new BigRational(LONG_MAX.multiply(LONG_MAX), LONG_MAX)).isEqualTo(BigRational.of(Long.MAX_VALUE));
+        }
+
+        @Test
+        void compareToIsExactBeyondLongRange() {
+            BigRational a = BigRational.of(Long.MAX_VALUE, Long.MAX_VALUE - 1);
+            BigRational b = BigRational.of(Long.MAX_VALUE - 1, Long.MAX_VALUE - 2);
+
+            assertThat(a).isLessThan(b);
+            assertThat(b).isGreaterThan(a);
+            assertThat(a.negate()).isGreaterThan(b.negate());
+        }
+
+        @Test
+        void roundingHalfwayNearLongMaxValue() {
+            BigRational x = BigRational.of(Long.MAX_VALUE, 2);
+
+            assertThat(x.roundHalfUp()).isEqualTo(LONG_MAX.add(BigInteger.ONE).shiftRight(1));
+            assertThat(x.roundHalfEven()).isEqualTo(LONG_MAX.add(BigInteger.ONE).shiftRight(1));
+            assertThat(x.negate().floor()).isEqualTo(LONG_MAX.add(BigInteger.ONE).shiftRight(1).negate());
+        }
+    }
+
+    @Nested
+    @DisplayName("Deferred reduction")
+    class DeferredReduction {
+
+        @Test
+        void intermediateResultsSkipReduction() {
+            BigRational x = BigRational.of(1, 2).deferReduction().multiply(BigRational.of(2, 3));
+
+            assertThat(x.isReduced()).isFalse();
+            assertThat(x.numerator()).isEqualTo(BigInteger.ONE);
+            assertThat(x.denominator()).isEqualTo(BigInteger.valueOf(3));
+        }
+
+        @Test
+        void deferredResultsEqualEagerResults() {
+            BigRational eager = BigRational.ZERO;
+            BigRational deferred = BigRational.ZERO.deferReduction();
+            for (int i = 1; i <= 50; i++) {
+                BigRational addend = BigRational.of(i, 6);
+                BigRational factor = BigRational.of(i + 1, i);
+                eager = eager.add(addend).multiply(factor).subtract(BigRational.of(1, 3)).divide(BigRational.of(i + 1, i));
+                deferred = deferred.add(addend).multiply(factor).subtract(BigRational.of(1, 3)).divide(BigRational.of(i + 1, i));
+            }
+
+            assertThat(deferred).isEqualTo(eager);
+            assertThat(eager).isEqualTo(deferred);
+            assertThat(deferred.hashCode()).isEqualTo(eager.hashCode());
+            assertThat(deferred.compareTo(eager)).isZero();
+            assertThat(deferred.toString()).isEqualTo(eager.toString());
+        }
+
+        @Test
+        void deferredModePropagatesFromEitherOperand() {
+            BigRational deferred = BigRational.of(1, 2).deferReduction();
+
+            assertThat(BigRational.of(1, 2).add(deferred).isReduced()).isFalse();
+            assertThat(deferred.add(BigRational.of(1, 2)).isReduced()).isFalse();
+        }
+
+        @Test
+        void reduceLeavesDeferredMode() {
+            BigRational x = BigRational.of(1, 2).deferReduction().multiply(BigRational.of(2, 3)).reduce();
+
+            assertThat(x.isReduced()).isTrue();
+            assertThat(x).isEqualTo(BigRational.of(1, 3));
+            assertThat(x.multiply(BigRational.of(3, 2)).isReduced()).isTrue();
+        }
+
+        @Test
+        void unreducedTermsAreBounded() {
+            BigRational x = BigRational.of(5, 11).deferReduction();
+            for (int i = 0; i < 1_000; i++) {
+                x = x.multiply(BigRational.of(1_000_003, 999_983)).multiply(BigRational.of(999_983, 1_000_003));
+                assertThat(x.bitLength()).isLessThan(BigRational.MAX_UNREDUCED_BIT_LENGTH + 1);
+            }
+
+            assertThat(x).isEqualTo(BigRational.of(5, 11));
+        }
+
+        @Test
+        void roundingWorksOnUnreducedTerms() {
+            BigRational x = BigRational.of(3, 2).deferReduction().multiply(BigRational.of(1, 3));
+
+            assertThat(x.isReduced()).isFalse();
+            assertThat(x.roundHalfUp()).isEqualTo(BigInteger.ONE);
+            assertThat(x.floor()).isEqualTo(BigInteger.ZERO);
+            assertThat(x.toDecimal(2, com.pivovarit.money.math.Rounding.HALF_UP).value()).isEqualByComparingTo(new BigDecimal("0.50"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Interned values and identity short-circuits")
+    class Interning {
+
+        @Test
+        void smallIntegersAndUnitFractionsAreInterned() {
+            assertThat(BigRational.of(0)).isSameAs(BigRational.ZERO);
+            assertThat(BigRational.of(1)).isSameAs(BigRational.ONE);
+            assertThat(BigRational.of(100)).isSameAs(BigRational.of(100));
+            assertThat(BigRational.of(-128)).isSameAs(BigRational.of(-128));
+            assertThat(BigRational.of(2, 4)).isSameAs(BigRational.of(1, 2));
+            assertThat(BigRational.of(1, 100)).isSameAs(BigRational.of("0.01"));
+            assertThat(BigRational.of(Long.MAX_VALUE)).isNotSameAs(BigRational.of(Long.MAX_VALUE));
+        }
+
+        @Test
+        void arithmeticResultsAreInterned() {
+            assertThat(BigRational.of("0.50").add(BigRational.of("0.50"))).isSameAs(BigRational.ONE);
+            assertThat(BigRational.of("0.35").subtract(BigRational.of("0.35"))).isSameAs(BigRational.ZERO);
+            assertThat(BigRational.of(7, 3).multiply(BigRational.of(3, 7))).isSameAs(BigRational.ONE);
+            assertThat(BigRational.of(3, 2).add(BigRational.of(1, 2))).isSameAs(BigRational.of(2));
+        }
+
+        @Test
+        void neutralOperandsReturnTheOtherOperand() {
+            BigRational x = BigRational.of(22, 7);
+
+            assertThat(x.add(BigRational.ZERO)).isSameAs(x);
+            assertThat(BigRational.ZERO.add(x)).isSameAs(x);
+            assertThat(x.subtract(BigRational.ZERO)).isSameAs(x);
+            assertThat(x.multiply(BigRational.ONE)).isSameAs(x);
+            assertThat(BigRational.ONE.multiply(x)).isSameAs(x);
+            assertThat(x.divide(BigRational.ONE)).isSameAs(x);
+            assertThat(x.multiply(BigRational.ZERO)).isSameAs(BigRational.ZERO);
+        }
+
+        @Test
+        void neutralOperandsKeepDeferredMode() {
+            BigRational deferred = BigRational.of(22, 7).deferReduction();
+
+            assertThat(BigRational.ONE.multiply(deferred)).isSameAs(deferred);
+            assertThat(deferred.add(BigRational.ZERO)).isSameAs(deferred);
+            assertThat(BigRational.of(22, 7).add(BigRational.ZERO.deferReduction()).multiply(BigRational.of(7, 2)).isReduced())
+              .isFalse();
+        }
+
+        @Test
+        void isOneAndIsZeroHoldForUnreducedTerms() {
+            BigRational one = BigRational.of(1, 3).deferReduction().add(BigRational.of(2, 3));
+
+            assertThat(one.isOne()).isTrue();
+            assertThat(BigRational.of("1.00").isOne()).isTrue();
+            assertThat(new BigRational(BigInteger.TEN.pow(30), BigInteger.TEN.pow(30)).isOne()).isTrue();
+            assertThat(BigRational.of(-1).isOne()).isFalse();
+            assertThat(one.subtract(one).isZero()).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("Decimal form: isDecimal / scale")
+    class DecimalForm {
+
+        @Test
+        void reportsSmallestExactScale() {
+            assertThat(BigRational.of("12.340").scale()).isEqualTo(2);
+            assertThat(BigRational.of(new BigDecimal("1E+3")).scale()).isZero();
+            assertThat(BigRational.of(1, 8).scale()).isEqualTo(3);
+            assertThat(BigRational.of(1, 2).scale()).isEqualTo(1);
+            assertThat(BigRational.of(0, 100).scale()).isZero();
+        }
+
+        @Test
+        void detectsNonTerminatingValues() {
+            assertThat(BigRational.of(1, 3).isDecimal()).isFalse();
+            assertThat(BigRational.of(7, 30).isDecimal()).isFalse();
+            assertThat(BigRational.of(7, 40).isDecimal()).isTrue();
+            assertThat(BigRational.of("0.25").isDecimal()).isTrue();
+
+            assertThatThrownBy(() -> BigRational.of(1, 3).scale())
+              .isInstanceOf(ArithmeticException.class);
+        }
+
+        @Test
+        void powerOfTenDenominatorsAreDecimal() {
+            assertThat(BigRational.of(12345, 100)).isEqualTo(BigRational.of("123.45"));
+            assertThat(BigRational.of(12345, 100).scale()).isEqualTo(2);
+            assertThat(BigRational.of(-50, 1000)).isEqualTo(BigRational.of(-1, 20));
+        }
+
+        @Test
+        void alignsScalesOnAddSubtractMultiply() {
+            BigRational a = BigRational.of("0.10");
+            BigRational b = BigRational.of("0.2");
+
+            assertThat(a.add(b)).isEqualTo(BigRational.of(3, 10));
+            assertThat(a.subtract(b)).isEqualTo(BigRational.of(-1, 10));
+            assertThat(a.multiply(b)).isEqualTo(BigRational.of(1, 50));
+            assertThat(a.add(b).scale()).isEqualTo(1);
+            assertThat(a.compareTo(b)).isNegative();
+        }
+
+        @Test
+        void alignsScalesBeyondLongRange() {
+            BigRational a = BigRational.of("92233720368547758.07");
+            BigRational b = BigRational.of("0.000000000000000000001");
+
+            assertThat(a.add(b)).isEqualTo(BigRational.of("92233720368547758.070000000000000000001"));
+            assertThat(a.add(b).compareTo(a)).isPositive();
+            assertThat(a.multiply(a)).isEqualTo(BigRational.of(new BigDecimal("92233720368547758.07").pow(2)));
+        }
+
+        @Test
+        void shedsTrailingZerosBeyondLongScales() {
+            BigRational x = BigRational.of("1.5000000000000000000000");
+
+            assertThat(x.isSmall()).isTrue();
+            assertThat(x.scale()).isEqualTo(1);
+            assertThat(BigRational.of("0.0000000000000000000000").isZero()).isTrue();
+        }
+
+        @Test
+        void boundsChainsOfDecimalProducts() {
+            BigRational factor = BigRational.of("1.0500");
+            BigRational x = BigRational.ONE;
+            BigRational expected = BigRational.ONE;
+            for (int i = 1; i <= 200; i++) {
+                x = x.multiply(factor);
+                expected = expected.multiply(BigRational.of(21, 20));
+
+                // never more than the terms in lowest terms, plus the bound under which the decimal form is kept
+                assertThat(x.bitLength()).isLessThanOrEqualTo(Math.max(expected.bitLength(), BigRational.MAX_UNREDUCED_BIT_LENGTH));
+            }
+            assertThat(x).isEqualTo(expected);
+        }
+
+        @Test
+        void mixesWithNonDecimalValues() {
+            BigRational third = BigRational.of(1, 3);
+
+            assertThat(BigRational.of("0.5").add(third)).isEqualTo(BigRational.of(5, 6));
+            assertThat(BigRational.of("0.5").multiply(third)).isEqualTo(BigRational.of(1, 6));
+            assertThat(BigRational.of("0.5").divide(BigRational.of("0.25"))).isEqualTo(BigRational.of(2));
+            assertThat(BigRational.of("0.5").inverse()).isEqualTo(BigRational.of(2));
+        }
+
+        @Test
+        void roundsWithoutResidualUpToTrackedScale() {
+            Decimal decimal = BigRational.of("12.34").toDecimal(3, com.pivovarit.money.math.Rounding.HALF_UP);
+
+            assertThat(decimal.value()).isEqualTo(new BigDecimal("12.340"));
+            assertThat(decimal.residual()).isEqualTo(BigRational.ZERO);
+        }
+
+        @Test
+        void roundsDecimalsBelowTrackedScale() {
+            Decimal decimal = BigRational.of("12.345").toDecimal(2, com.pivovarit.money.math.Rounding.HALF_EVEN);
+
+            assertThat(decimal.value()).isEqualTo(new BigDecimal("12.34"));
+            assertThat(decimal.residual()).isEqualTo(BigRational.of(5, 1000));
+        }
+    }
+
     @Nested
     @DisplayName("of(BigDecimal)")
     class FromBigDecimal {
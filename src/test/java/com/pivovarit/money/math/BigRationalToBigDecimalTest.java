@@ -1,7 +1,10 @@
 package com.pivovarit.money.math;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.math.MathContext;
 import java.math.RoundingMode;
+import java.util.Random;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -25,6 +28,12 @@ class BigRationalToBigDecimalTest {
             assertThat(r.toBigDecimal(2, Rounding.HALF_EVEN)).isEqualByComparingTo("0.25");
         }
 
+        @Test
+        void shouldPadDecimalsToRequestedScale() {
+            assertThat(BigRational.of("1.5").toBigDecimal(4, Rounding.FLOOR)).isEqualTo(new BigDecimal("1.5000"));
+            assertThat(BigRational.of("-0.01").toBigDecimal(30, Rounding.CEIL)).isEqualTo(new BigDecimal("-0.01").setScale(30));
+        }
+
         @Test
         void shouldRoundPositive_floorAndCeil() {
             var r = BigRational.of(1, 3);
@@ -99,4 +108,76 @@ class BigRationalToBigDecimalTest {
             assertThat(r.toBigDecimal(mc)).isEqualByComparingTo("0.125");
         }
     }
+
+    @Nested
+    @DisplayName("toUnscaled(int scale, Rounding) / toUnscaledLong(int scale, Rounding)")
+    class ToUnscaled {
+
+        @Test
+        void shouldMatchUnscaledValueOfToDecimal() {
+            var values = new BigRational[]{BigRational.of(1, 3), BigRational.of(-2, 3), BigRational.of("-0.125"),
+              BigRational.of("1234.5"), BigRational.of("0.005"), BigRational.of(Long.MAX_VALUE, 7),
+              BigRational.of("92233720368547758.07"), BigRational.of(1, 3).add(BigRational.of("0.1"))};
+            for (var value : values) {
+                for (var rounding : Rounding.values()) {
+                    for (int scale = 0; scale <= 4; scale++) {
+                        var expected = value.toDecimal(scale, rounding).value().unscaledValue();
+                        assertThat(value.toUnscaled(scale, rounding)).isEqualTo(expected);
+                        if (expected.bitLength() < Long.SIZE) {
+                            assertThat(value.toUnscaledLong(scale, rounding)).isEqualTo(expected.longValueExact());
+                        }
+                    }
+                }
+            }
+        }
+
+        @Test
+        void shouldThrowWhenUnscaledValueDoesNotFitLong() {
+            assertThatThrownBy(() -> BigRational.of(Long.MAX_VALUE).toUnscaledLong(1, Rounding.FLOOR))
+              .isInstanceOf(ArithmeticException.class);
+            assertThatThrownBy(() -> BigRational.of(1, 3).toUnscaledLong(-1, Rounding.FLOOR))
+              .isInstanceOf(ArithmeticException.class)
+              .hasMessage("negative scale");
+        }
+
+        @Test
+        void shouldOnlyReportFitWhenUnscaledValueFitsLong() {
+            var random = new Random(42);
+            for (int i = 0; i < 10_000; i++) {
+                var value = BigRational.of(new BigInteger(random.nextInt(1, 80), random).subtract(BigInteger.ONE.shiftLeft(40)),
+                  BigInteger.valueOf(random.nextLong(1, 1_000_000)));
+                int scale = random.nextInt(19);
+                if (value.fitsUnscaledLong(scale)) {
+                    for (var rounding : Rounding.values()) {
+                        assertThat(value.toUnscaledLong(scale, rounding)).isEqualTo(value.toUnscaled(scale, rounding).longValueExact());
+                    }
+                }
+            }
+
+            assertThat(BigRational.of("1234.56").fitsUnscaledLong(2)).isTrue();
+            assertThat(BigRational.of("-92233720368547.75").fitsUnscaledLong(2)).isTrue();
+            assertThat(BigRational.of(Long.MAX_VALUE).fitsUnscaledLong(0)).isFalse();
+            assertThat(BigRational.of(1, 3).fitsUnscaledLong(19)).isFalse();
+            assertThat(BigRational.of(1, 3).fitsUnscaledLong(-1)).isFalse();
+        }
+
+        @Test
+        void shouldReportExactnessAtScale() {
+            assertThat(BigRational.of("12.50").isExactAt(1)).isTrue();
+            assertThat(BigRational.of("12.55").isExactAt(1)).isFalse();
+            assertThat(BigRational.of(1, 4).isExactAt(2)).isTrue();
+            assertThat(BigRational.of(1, 4).isExactAt(1)).isFalse();
+            assertThat(BigRational.of(1, 3).isExactAt(18)).isFalse();
+            assertThat(BigRational.of(new BigDecimal("1e40")).isExactAt(0)).isTrue();
+            assertThat(BigRational.of(new BigDecimal("1e-40")).isExactAt(39)).isFalse();
+            assertThatThrownBy(() -> BigRational.ONE.isExactAt(-1)).isInstanceOf(ArithmeticException.class);
+
+            var random = new Random(42);
+            for (int i = 0; i < 1000; i++) {
+                var value = BigRational.of(random.nextLong(), random.nextLong(1, 10_000));
+                int scale = random.nextInt(6);
+                assertThat(value.isExactAt(scale)).isEqualTo(value.toDecimal(scale, Rounding.FLOOR).residual().isZero());
+            }
+        }
+    }
 }
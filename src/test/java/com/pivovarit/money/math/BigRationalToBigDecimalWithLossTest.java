@@ -129,6 +129,31 @@ class BigRationalToBigDecimalWithLossTest {
         }
     }
 
+    @Test
+    void roundingLossShouldBeExactForWideAndDecimalShapedValues() {
+        var values = new BigRational[]{
+          BigRational.of(Long.MAX_VALUE, 7),
+          BigRational.of(-Long.MAX_VALUE, 9_999_999_999L),
+          BigRational.of("123456789012345678901234567.890123456789"),
+          BigRational.of("-0.0000000000000000000000005"),
+          BigRational.of("-2.675"),
+          BigRational.of("1.005").deferReduction().multiply(BigRational.of(1, 3))
+        };
+
+        for (var r : values) {
+            for (var mode : Rounding.values()) {
+                for (int scale : new int[]{0, 2, 19, 30}) {
+                    var res = r.toDecimal(scale, mode);
+
+                    assertThat(res.value().scale()).isEqualTo(scale);
+                    assertThat(res.residual())
+                      .as("loss must be exact: original - returnedValue")
+                      .isEqualTo(r.subtract(bigDecimalToRationalExact(res.value())));
+                }
+            }
+        }
+    }
+
     private static BigRational bigDecimalToRationalExact(BigDecimal bd) {
         var unscaled = bd.unscaledValue();
         int scale = bd.scale();
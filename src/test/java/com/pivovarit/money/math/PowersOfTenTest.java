@@ -0,0 +1,32 @@
+package com.pivovarit.money.math;
+
+import java.math.BigInteger;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PowersOfTenTest {
+
+    @Test
+    void shouldMatchBigIntegerPowWithinAndBeyondCache() {
+        for (int k = 0; k <= PowersOfTen.MAX_CACHED_EXPONENT + 10; k++) {
+            assertThat(PowersOfTen.bigInteger(k)).isEqualTo(BigInteger.TEN.pow(k));
+        }
+    }
+
+    @Test
+    void shouldMatchBigIntegerPowForLongs() {
+        for (int k = 0; k <= PowersOfTen.MAX_LONG_EXPONENT; k++) {
+            assertThat(BigInteger.valueOf(PowersOfTen.longValue(k))).isEqualTo(BigInteger.TEN.pow(k));
+            assertThat(PowersOfTen.exponentOf(PowersOfTen.longValue(k))).isEqualTo(k);
+        }
+    }
+
+    @Test
+    void shouldRejectNonPowersOfTen() {
+        assertThat(PowersOfTen.exponentOf(0)).isNegative();
+        assertThat(PowersOfTen.exponentOf(20)).isNegative();
+        assertThat(PowersOfTen.exponentOf(-10)).isNegative();
+        assertThat(PowersOfTen.exponentOf(Long.MAX_VALUE)).isNegative();
+    }
+}
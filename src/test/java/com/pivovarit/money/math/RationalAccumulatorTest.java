@@ -0,0 +1,72 @@
+package com.pivovarit.money.math;
+
+import java.math.BigInteger;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RationalAccumulatorTest {
+
+    @Test
+    void shouldStartAtZero() {
+        assertThat(new RationalAccumulator().result()).isEqualTo(BigRational.ZERO);
+    }
+
+    @Test
+    void shouldMatchRepeatedAddition() {
+        var random = new Random(42);
+        var accumulator = new RationalAccumulator();
+        var expected = BigRational.ZERO;
+        for (int i = 0; i < 10_000; i++) {
+            var addend = switch (i % 4) {
+                case 0 -> BigRational.of(random.nextLong(-1_000_000, 1_000_000), 100);
+                case 1 -> BigRational.of(random.nextLong(-1_000_000, 1_000_000), 1000);
+                case 2 -> BigRational.of(random.nextLong(-1_000, 1_000), random.nextLong(1, 50));
+                default -> BigRational.of(new BigInteger(100, random), BigInteger.valueOf(random.nextLong(1, 1_000)));
+            };
+            if (random.nextBoolean()) {
+                accumulator.add(addend);
+                expected = expected.add(addend);
+            } else {
+                accumulator.subtract(addend);
+                expected = expected.subtract(addend);
+            }
+        }
+
+        assertThat(accumulator.result()).isEqualTo(expected);
+    }
+
+    @Test
+    void shouldMatchRepeatedAdditionOfDecimals() {
+        var random = new Random(42);
+        var accumulator = new RationalAccumulator();
+        var expected = BigRational.ZERO;
+        for (int i = 0; i < 10_000; i++) {
+            var addend = BigRational.of(random.nextLong(-1_000_000, 1_000_000), i % 2 == 0 ? 100 : 10_000);
+            accumulator.add(addend);
+            expected = expected.add(addend);
+        }
+
+        assertThat(accumulator.result()).isEqualTo(expected);
+    }
+
+    @Test
+    void shouldPromoteOnOverflow() {
+        var accumulator = new RationalAccumulator()
+          .add(BigRational.of(Long.MAX_VALUE))
+          .add(BigRational.of(Long.MAX_VALUE))
+          .add(BigRational.of(1, 3))
+          .subtract(BigRational.of(Long.MAX_VALUE));
+
+        assertThat(accumulator.result()).isEqualTo(BigRational.of(Long.MAX_VALUE).add(BigRational.of(1, 3)));
+    }
+
+    @Test
+    void shouldCombineAccumulators() {
+        var left = new RationalAccumulator().add(BigRational.of("0.10")).add(BigRational.of(1, 3));
+        var right = new RationalAccumulator().add(BigRational.of("0.20")).subtract(BigRational.of(1, 6));
+
+        assertThat(left.add(right).result()).isEqualTo(BigRational.of("0.3").add(BigRational.of(1, 6)));
+    }
+}
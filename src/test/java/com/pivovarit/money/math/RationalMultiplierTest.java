@@ -0,0 +1,70 @@
+package com.pivovarit.money.math;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RationalMultiplierTest {
+
+    @Test
+    void shouldMatchMultiply() {
+        var random = new Random(42);
+        for (int i = 0; i < 20_000; i++) {
+            var factor = switch (i % 4) {
+                case 0 -> BigRational.of(random.nextLong(1, 10_000_000), random.nextLong(1, 10_000_000));
+                case 1 -> BigRational.of(BigDecimal.valueOf(random.nextLong(1, 10_000_000), random.nextInt(7)));
+                case 2 -> BigRational.of(random.nextLong(1, Long.MAX_VALUE), random.nextLong(1, Long.MAX_VALUE));
+                default -> BigRational.of(new BigInteger(100, random).add(BigInteger.ONE), BigInteger.valueOf(random.nextLong(1, 1_000)));
+            };
+            var x = switch (random.nextInt(4)) {
+                case 0 -> BigRational.of(BigDecimal.valueOf(random.nextLong(-100_000_000, 100_000_000), random.nextInt(4)));
+                case 1 -> BigRational.of(BigDecimal.valueOf(random.nextLong(), random.nextInt(19)));
+                case 2 -> BigRational.of(random.nextLong(-1_000, 1_000), random.nextLong(1, 1_000));
+                default -> BigRational.of(new BigDecimal(new BigInteger(80, random), 2));
+            };
+
+            var product = RationalMultiplier.of(factor).multiply(x);
+
+            assertThat(product).isEqualTo(x.multiply(factor));
+            assertThat(product.isReduced() || product.isDecimal()).isTrue();
+        }
+    }
+
+    @Test
+    void shouldRoundToLongLikeToUnscaledLong() {
+        var random = new Random(42);
+        for (int i = 0; i < 20_000; i++) {
+            var factor = i % 2 == 0
+              ? BigRational.of(random.nextLong(1, 10_000_000), random.nextLong(1, 10_000_000))
+              : BigRational.of(random.nextLong(1, Long.MAX_VALUE), random.nextLong(1, 1_000));
+            long x = i % 3 == 0 ? random.nextLong() : random.nextLong(-10_000_000, 10_000_000);
+            var multiplier = RationalMultiplier.of(factor);
+            for (Rounding rounding : Rounding.values()) {
+                var exact = BigRational.of(x).multiply(factor);
+                long expected;
+                try {
+                    expected = exact.toUnscaledLong(0, rounding);
+                } catch (ArithmeticException e) {
+                    assertThatThrownBy(() -> multiplier.multiplyToLong(x, rounding)).isInstanceOf(ArithmeticException.class);
+                    continue;
+                }
+                assertThat(multiplier.multiplyToLong(x, rounding)).isEqualTo(expected);
+            }
+        }
+    }
+
+    @Test
+    void shouldRoundHalvesPerMode() {
+        var half = RationalMultiplier.of(BigRational.of(1, 2));
+
+        assertThat(half.multiplyToLong(5, Rounding.HALF_UP)).isEqualTo(3L);
+        assertThat(half.multiplyToLong(5, Rounding.HALF_EVEN)).isEqualTo(2L);
+        assertThat(half.multiplyToLong(-5, Rounding.HALF_UP)).isEqualTo(-3L);
+        assertThat(half.multiplyToLong(-5, Rounding.FLOOR)).isEqualTo(-3L);
+        assertThat(half.multiplyToLong(-5, Rounding.CEIL)).isEqualTo(-2L);
+    }
+}
@@ -0,0 +1,61 @@
+package com.pivovarit.money.math;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.util.List;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RationalOperationEventTest {
+
+    private static final BigRational WIDE = BigRational.of(BigInteger.TWO.pow(1500).add(BigInteger.ONE), BigInteger.valueOf(3)
+      .pow(400));
+
+    @Test
+    void shouldRecordOperationsOnWideValues() throws IOException {
+        var events = record(() -> {
+            WIDE.multiply(BigRational.of(7, 11));
+            WIDE.deferReduction().add(BigRational.of(1, 3));
+        });
+
+        assertThat(events).hasSize(2);
+        assertThat(events.get(0).getString("operation")).isEqualTo("multiply");
+        assertThat(events.get(0).getInt("leftBitLength")).isEqualTo(WIDE.bitLength());
+        assertThat(events.get(0).getInt("rightBitLength")).isEqualTo(BigRational.of(7, 11).bitLength());
+        assertThat(events.get(0).getInt("resultBitLength")).isGreaterThan(WIDE.bitLength());
+        assertThat(events.get(0).getBoolean("gcd")).isTrue();
+        assertThat(events.get(1).getString("operation")).isEqualTo("add");
+        assertThat(events.get(1).getBoolean("gcd")).isFalse();
+    }
+
+    @Test
+    void shouldNotRecordOperationsBelowThreshold() throws IOException {
+        var events = record(() -> {
+            BigRational.of(1, 3).multiply(BigRational.of("1.25")).divide(BigRational.of(7));
+            BigRational.of(BigInteger.TWO.pow(200), BigInteger.valueOf(3)).add(BigRational.ONE);
+        });
+
+        assertThat(events).isEmpty();
+    }
+
+    private static List<RecordedEvent> record(Runnable operations) throws IOException {
+        var file = Files.createTempFile("rational-operations", ".jfr");
+        try (var recording = new Recording()) {
+            recording.enable("com.pivovarit.money.RationalOperation");
+            recording.start();
+            operations.run();
+            recording.stop();
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file).stream()
+              .filter(e -> e.getEventType().getName().equals("com.pivovarit.money.RationalOperation"))
+              .toList();
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
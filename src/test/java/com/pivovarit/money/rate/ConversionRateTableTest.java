@@ -0,0 +1,110 @@
+package com.pivovarit.money.rate;
+
+import com.pivovarit.money.ConversionRate;
+import com.pivovarit.money.ConversionRateTable;
+import com.pivovarit.money.currency.EUR;
+import com.pivovarit.money.currency.PLN;
+import com.pivovarit.money.currency.TypedCurrency;
+import com.pivovarit.money.currency.USD;
+import com.pivovarit.money.math.BigRational;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ConversionRateTableTest {
+
+    @Test
+    void shouldLookUpTypedRates() {
+        var table = ConversionRateTable.of(List.of(
+          ConversionRate.from("4.00", TypedCurrency.USD, TypedCurrency.PLN),
+          ConversionRate.from("0.92", TypedCurrency.USD, TypedCurrency.EUR)));
+
+        ConversionRate<USD, PLN> usdPln = table.get(TypedCurrency.USD, TypedCurrency.PLN);
+
+        assertThat(usdPln.rate()).isEqualTo(BigRational.of("4.00"));
+        assertThat(table.find(TypedCurrency.USD, TypedCurrency.EUR)).isPresent();
+        assertThat(table.find(TypedCurrency.PLN, TypedCurrency.USD)).isEmpty();
+        assertThat(table.find(TypedCurrency.GBP, TypedCurrency.USD)).isEmpty();
+        assertThatThrownBy(() -> table.get(TypedCurrency.EUR, TypedCurrency.USD))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessage("No rate for EUR -> USD at version 1");
+    }
+
+    @Test
+    void shouldPublishNewVersionsWithoutChangingPinnedSnapshots() {
+        var table = ConversionRateTable.empty();
+        var v1 = table.put(ConversionRate.from("4.00", TypedCurrency.USD, TypedCurrency.PLN));
+
+        var v2 = table.putAll(List.of(
+          ConversionRate.from("4.10", TypedCurrency.USD, TypedCurrency.PLN),
+          ConversionRate.from("1.08", TypedCurrency.EUR, TypedCurrency.USD)));
+        var v3 = table.remove(TypedCurrency.USD, TypedCurrency.PLN);
+
+        assertThat(List.of(v1.version(), v2.version(), v3.version())).isEqualTo(List.of(1L, 2L, 3L));
+        assertThat(v1.get(TypedCurrency.USD, TypedCurrency.PLN).rate()).isEqualTo(BigRational.of("4.00"));
+        assertThat(v1.contains(TypedCurrency.EUR, TypedCurrency.USD)).isFalse();
+        assertThat(v2.get(TypedCurrency.USD, TypedCurrency.PLN).rate()).isEqualTo(BigRational.of("4.10"));
+        assertThat(v2.size()).isEqualTo(2);
+        assertThat(v3.contains(TypedCurrency.USD, TypedCurrency.PLN)).isFalse();
+        assertThat(v3.rates()).isEqualTo(List.of(ConversionRate.from("1.08", TypedCurrency.EUR, TypedCurrency.USD)));
+        assertThat(table.remove(TypedCurrency.USD, TypedCurrency.PLN)).isSameAs(v3);
+        assertThat(table.version()).isEqualTo(3L);
+        assertThat(table.putAll(List.of())).isSameAs(v3);
+        assertThat(table.version()).isEqualTo(3L);
+    }
+
+    @Test
+    void shouldReturnRatesTypedWithCallerCurrencies() {
+        var table = ConversionRateTable.empty();
+        table.put(ConversionRate.from("25.1", TypedCurrency.from("USD"), TypedCurrency.from("CZK")));
+
+        ConversionRate<USD, TypedCurrency> rate = table.get(TypedCurrency.USD, TypedCurrency.from("CZK"));
+
+        assertThat(rate.from()).isSameAs(TypedCurrency.USD);
+        assertThat(rate.rate()).isEqualTo(BigRational.of("25.1"));
+    }
+
+    @Test
+    void shouldKeepSnapshotsConsistentUnderConcurrentUpdates() throws Exception {
+        var table = ConversionRateTable.empty();
+        table.putAll(rates(1));
+        var done = new AtomicBoolean();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> readers = List.of(executor.submit(() -> read(table, done)), executor.submit(() -> read(table, done)));
+            for (int i = 2; i <= 2_000; i++) {
+                table.putAll(rates(i));
+            }
+            done.set(true);
+            for (Future<?> reader : readers) {
+                reader.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(table.version()).isEqualTo(2_000L);
+    }
+
+    // every version carries USD->EUR = v and EUR->USD = 1/v
+    private static List<ConversionRate<?, ?>> rates(int v) {
+        return List.of(
+          ConversionRate.from(BigRational.of(v), TypedCurrency.USD, TypedCurrency.EUR),
+          ConversionRate.from(BigRational.of(1, v), TypedCurrency.EUR, TypedCurrency.USD));
+    }
+
+    private static void read(ConversionRateTable table, AtomicBoolean done) {
+        while (!done.get()) {
+            var snapshot = table.snapshot();
+            ConversionRate<USD, EUR> there = snapshot.get(TypedCurrency.USD, TypedCurrency.EUR);
+            ConversionRate<EUR, USD> back = snapshot.get(TypedCurrency.EUR, TypedCurrency.USD);
+            assertThat(there.rate().multiply(back.rate())).isEqualTo(BigRational.ONE);
+            assertThat(there.rate()).isEqualTo(BigRational.of(snapshot.version()));
+        }
+    }
+}
@@ -1,13 +1,20 @@
 package com.pivovarit.money.rate;
 
+import com.pivovarit.money.BoundedConversionRate;
 import com.pivovarit.money.ConversionRate;
 import com.pivovarit.money.Money;
 import com.pivovarit.money.currency.PLN;
 import com.pivovarit.money.currency.TypedCurrency;
 import com.pivovarit.money.currency.USD;
 import com.pivovarit.money.math.BigRational;
+import com.pivovarit.money.math.DenominatorLimit;
+import com.pivovarit.money.math.Rounding;
 import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.util.Currency;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -66,4 +73,115 @@ class ConversionRateTest {
           .isInstanceOf(IllegalArgumentException.class)
           .hasMessageContaining("Money currency EUR does not match rate.from USD");
     }
+
+    @Test
+    void shouldBoundDenominatorOfComposedRates() {
+        var limit = DenominatorLimit.of(1_000_000);
+        ConversionRate<USD, PLN> usdPln = ConversionRate.from(BigRational.of(39_876, 9_999), TypedCurrency.USD, TypedCurrency.PLN);
+        ConversionRate<PLN, USD> plnUsd = ConversionRate.from(BigRational.of(2_509, 9_973), TypedCurrency.PLN, TypedCurrency.USD);
+
+        var composed = ConversionRate.compose(usdPln, plnUsd, limit);
+        assertThat(composed.value().rate().add(composed.error())).isEqualTo(ConversionRate.compose(usdPln, plnUsd).rate());
+
+        ConversionRate<PLN, PLN> chained = ConversionRate.from(BigRational.ONE, TypedCurrency.PLN, TypedCurrency.PLN);
+        for (int i = 0; i < 50; i++) {
+            chained = ConversionRate.compose(ConversionRate.compose(chained, plnUsd), usdPln, limit).value();
+        }
+        assertThat(chained.rate().denominator()).isLessThanOrEqualTo(BigInteger.valueOf(1_000_000));
+    }
+
+    @Test
+    void shouldKeepLimitAcrossLongChainsOfBoundedRates() {
+        var limit = DenominatorLimit.of(1_000_000);
+        ConversionRate<USD, PLN> usdPln = ConversionRate.from(BigRational.of(39_876, 9_999), TypedCurrency.USD, TypedCurrency.PLN);
+        ConversionRate<PLN, USD> plnUsd = ConversionRate.from(BigRational.of(2_509, 9_973), TypedCurrency.PLN, TypedCurrency.USD);
+        var chained = BoundedConversionRate.of(usdPln, limit).value();
+
+        for (int i = 0; i < 1000; i++) {
+            var there = chained.compose(plnUsd);
+            assertThat(there.value().rate().rate().add(there.error())).isEqualTo(chained.rate().rate().multiply(plnUsd.rate()));
+            var back = there.value().compose(usdPln);
+            assertThat(back.value().limit()).isSameAs(limit);
+            chained = back.value();
+            assertThat(chained.rate().rate().denominator()).isLessThanOrEqualTo(BigInteger.valueOf(1_000_000));
+        }
+
+        var exchanged = chained.exchange(Money.from("1000.01", TypedCurrency.USD));
+        assertThat(exchanged.value().amount().denominator()).isLessThanOrEqualTo(BigInteger.valueOf(1_000_000));
+        assertThat(exchanged.value().amount().add(exchanged.error())).isEqualTo(chained.rate().exchange(Money.from("1000.01", TypedCurrency.USD)).amount());
+    }
+
+    @Test
+    void shouldBoundDenominatorOfExchangedAmounts() {
+        ConversionRate<USD, PLN> rate = ConversionRate.from(BigRational.of(39_876, 9_999), TypedCurrency.USD, TypedCurrency.PLN);
+        Money<USD> money = Money.from("1000.01", TypedCurrency.USD);
+
+        var exchanged = rate.exchange(money, DenominatorLimit.of(100));
+
+        assertThat(exchanged.value().amount().denominator()).isLessThanOrEqualTo(BigInteger.valueOf(100));
+        assertThat(exchanged.value().amount().add(exchanged.error())).isEqualTo(rate.exchange(money).amount());
+    }
+
+    @Test
+    void shouldExchangeBatchesLikeSingleAmounts() {
+        ConversionRate<USD, PLN> rate = ConversionRate.from(BigRational.of(39_876, 9_999), TypedCurrency.USD, TypedCurrency.PLN);
+        List<Money<USD>> amounts = List.of(
+          Money.from("1000.01", TypedCurrency.USD),
+          Money.from("-0.07", TypedCurrency.USD),
+          Money.from(BigRational.of(1, 3), TypedCurrency.USD),
+          Money.from(new BigDecimal("123456789012345678901234.5"), TypedCurrency.USD));
+        List<Money<PLN>> expected = amounts.stream().map(rate::exchange).toList();
+        Money<USD>[] array = toArray(amounts);
+
+        assertThat(rate.exchangeAll(amounts)).isEqualTo(expected);
+        assertThat(List.of(rate.exchangeAll(array))).isEqualTo(expected);
+        assertThat(rate.exchangeAll(amounts.stream()).toList()).isEqualTo(expected);
+        assertThat(rate.exchangeAll(Stream.<Money<USD>>empty()).toList()).isEqualTo(List.of());
+    }
+
+    @Test
+    void shouldExchangeMinorUnitsWithSingleRounding() {
+        var random = new Random(42);
+        ConversionRate<USD, TypedCurrency> toYen = ConversionRate.from(BigRational.of(1_497_123, 9_999), TypedCurrency.USD, TypedCurrency.from("JPY"));
+        ConversionRate<USD, TypedCurrency> toDinar = ConversionRate.from("0.376", TypedCurrency.USD, TypedCurrency.from("BHD"));
+        long[] cents = new long[1_000];
+        for (int i = 0; i < cents.length; i++) {
+            cents[i] = i % 10 == 0 ? random.nextLong(-1L << 40, 1L << 40) : random.nextLong(-10_000_000, 10_000_000);
+        }
+
+        for (var rate : List.of(toYen, toDinar)) {
+            for (Rounding rounding : Rounding.values()) {
+                long[] exchanged = rate.exchangeAll(cents, rounding);
+                for (int i = 0; i < cents.length; i++) {
+                    var money = Money.from(BigDecimal.valueOf(cents[i], 2), TypedCurrency.USD);
+                    assertThat(exchanged[i]).isEqualTo(rate.exchange(money).toDecimal(rounding).value().unscaledValue().longValueExact());
+                }
+            }
+        }
+    }
+
+    @Test
+    void shouldRejectMismatchedCurrencyInBatch() {
+        ConversionRate<TypedCurrency, PLN> rate = ConversionRate.from("4.00", TypedCurrency.from("USD"), TypedCurrency.PLN);
+
+        assertThatThrownBy(() -> rate.exchangeAll(List.of(Money.from("1", "EUR"))))
+          .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> rate.exchangeAll(new long[]{Long.MAX_VALUE}, Rounding.FLOOR))
+          .isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    void shouldExchangeAmountsInOtherInstancesOfSameCurrency() {
+        ConversionRate<TypedCurrency, PLN> rate = ConversionRate.from("0.37", TypedCurrency.from("SEK"), TypedCurrency.PLN);
+        Money<TypedCurrency> money = Money.from("100", new TypedCurrency.ISOCurrency(Currency.getInstance("SEK")));
+
+        assertThat(rate.exchange(money).amount()).isEqualTo(BigRational.of("37"));
+        assertThat(rate.exchangeOrThrow(money).amount()).isEqualTo(BigRational.of("37"));
+    }
+
+    // a Money<F>[] can only be created through an unchecked cast
+    @SuppressWarnings("unchecked")
+    private static <F extends TypedCurrency> Money<F>[] toArray(List<Money<F>> amounts) {
+        return amounts.toArray((Money<F>[]) new Money<?>[0]);
+    }
 }
@@ -0,0 +1,107 @@
+package com.pivovarit.money.rate;
+
+import com.pivovarit.money.ConversionRate;
+import com.pivovarit.money.CrossRateResolver;
+import com.pivovarit.money.currency.CZK;
+import com.pivovarit.money.currency.HKD;
+import com.pivovarit.money.currency.TypedCurrency;
+import com.pivovarit.money.math.BigRational;
+import java.util.Currency;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CrossRateResolverTest {
+
+    private static final ConversionRate<CZK, TypedCurrency> CZK_USD = ConversionRate.from("0.04", TypedCurrency.CZK, TypedCurrency.USD);
+    private static final ConversionRate<TypedCurrency, HKD> USD_HKD = ConversionRate.from("7.8", TypedCurrency.USD, TypedCurrency.HKD);
+    private static final ConversionRate<CZK, TypedCurrency> CZK_EUR = ConversionRate.from("0.04", TypedCurrency.CZK, TypedCurrency.EUR);
+    private static final ConversionRate<TypedCurrency, HKD> EUR_HKD = ConversionRate.from("8.5", TypedCurrency.EUR, TypedCurrency.HKD);
+
+    @Test
+    void shouldComposeAlongPreferredPivot() {
+        var viaUsd = CrossRateResolver.of(List.of(CZK_EUR, EUR_HKD, CZK_USD, USD_HKD), TypedCurrency.USD);
+        var viaEur = CrossRateResolver.of(List.of(CZK_USD, USD_HKD, CZK_EUR, EUR_HKD), TypedCurrency.EUR);
+
+        ConversionRate<CZK, HKD> rate = viaUsd.get(TypedCurrency.CZK, TypedCurrency.HKD);
+
+        assertThat(rate.rate()).isEqualTo(BigRational.of("0.312"));
+        assertThat(viaEur.get(TypedCurrency.CZK, TypedCurrency.HKD).rate()).isEqualTo(BigRational.of("0.34"));
+    }
+
+    @Test
+    void shouldPreferFewestHopsAndInvertDirectRates() {
+        var resolver = CrossRateResolver.of(List.of(CZK_USD, USD_HKD), TypedCurrency.EUR);
+
+        assertThat(resolver.get(TypedCurrency.HKD, TypedCurrency.CZK).rate()).isEqualTo(BigRational.of("0.312").inverse());
+        assertThat(resolver.get(TypedCurrency.USD, TypedCurrency.CZK).rate()).isEqualTo(BigRational.of(25));
+
+        resolver.update(ConversionRate.from("0.3", TypedCurrency.CZK, TypedCurrency.HKD));
+
+        assertThat(resolver.get(TypedCurrency.CZK, TypedCurrency.HKD).rate()).isEqualTo(BigRational.of("0.3"));
+    }
+
+    @Test
+    void shouldMemoizeResolvedRates() {
+        var resolver = CrossRateResolver.of(List.of(CZK_USD, USD_HKD));
+
+        var first = resolver.get(TypedCurrency.CZK, TypedCurrency.HKD);
+
+        assertThat(resolver.get(TypedCurrency.CZK, TypedCurrency.HKD)).isSameAs(first);
+        assertThat(resolver.find(TypedCurrency.CZK, TypedCurrency.HKD)).isSameAs(resolver.find(TypedCurrency.CZK, TypedCurrency.HKD));
+        assertThat(resolver.find(TypedCurrency.CZK, TypedCurrency.HKD).orElseThrow()).isSameAs(first);
+    }
+
+    @Test
+    void shouldTypeMemoizedRatesForOtherCurrencyInstances() {
+        var resolver = CrossRateResolver.of(List.of(CZK_USD, USD_HKD));
+        var czk = new TypedCurrency.ISOCurrency(Currency.getInstance("CZK"));
+
+        var rate = resolver.get(czk, TypedCurrency.HKD);
+
+        assertThat(rate.from()).isSameAs(czk);
+        assertThat(rate.rate()).isEqualTo(resolver.get(TypedCurrency.CZK, TypedCurrency.HKD).rate());
+        assertThat(resolver.find(czk, TypedCurrency.HKD).orElseThrow().from()).isSameAs(czk);
+    }
+
+    @Test
+    void shouldInvalidateOnlyDependentComposites() {
+        var plnEur = ConversionRate.from("0.23", TypedCurrency.PLN, TypedCurrency.EUR);
+        var resolver = CrossRateResolver.of(List.of(CZK_USD, USD_HKD, plnEur));
+        var czkHkd = resolver.get(TypedCurrency.CZK, TypedCurrency.HKD);
+        var eurPln = resolver.get(TypedCurrency.EUR, TypedCurrency.PLN);
+
+        resolver.update(ConversionRate.from("7.75", TypedCurrency.USD, TypedCurrency.HKD));
+
+        assertThat(resolver.get(TypedCurrency.CZK, TypedCurrency.HKD)).isNotSameAs(czkHkd);
+        assertThat(resolver.get(TypedCurrency.CZK, TypedCurrency.HKD).rate()).isEqualTo(BigRational.of("0.31"));
+        assertThat(resolver.get(TypedCurrency.EUR, TypedCurrency.PLN)).isSameAs(eurPln);
+    }
+
+    @Test
+    void shouldReroutePathsThroughRemovedRates() {
+        var resolver = CrossRateResolver.of(List.of(CZK_USD, USD_HKD, CZK_EUR, EUR_HKD), TypedCurrency.USD);
+        resolver.get(TypedCurrency.CZK, TypedCurrency.HKD);
+
+        resolver.remove(TypedCurrency.USD, TypedCurrency.HKD);
+
+        assertThat(resolver.get(TypedCurrency.CZK, TypedCurrency.HKD).rate()).isEqualTo(BigRational.of("0.34"));
+
+        resolver.remove(TypedCurrency.EUR, TypedCurrency.HKD);
+
+        assertThat(resolver.find(TypedCurrency.CZK, TypedCurrency.HKD)).isEmpty();
+        assertThatThrownBy(() -> resolver.get(TypedCurrency.CZK, TypedCurrency.HKD))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessage("No path from CZK to HKD");
+    }
+
+    @Test
+    void shouldResolveTrivialAndUnknownPairs() {
+        var resolver = CrossRateResolver.of(List.of(CZK_USD));
+
+        assertThat(resolver.get(TypedCurrency.GBP, TypedCurrency.GBP).rate()).isEqualTo(BigRational.ONE);
+        assertThat(resolver.find(TypedCurrency.GBP, TypedCurrency.USD)).isEmpty();
+    }
+}